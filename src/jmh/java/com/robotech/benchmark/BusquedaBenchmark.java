@@ -0,0 +1,82 @@
+package com.robotech.benchmark;
+
+import com.robotech.busqueda.IndiceBusqueda;
+import com.robotech.dto.FichaCompetidor;
+import com.robotech.repository.CompetidorRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de competidores (GET /competidores/buscar) sobre 200k competidores
+ * Modo muestreo para ver los percentiles: el objetivo es p99 por debajo de 5 ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusquedaBenchmark {
+
+    private static final int COMPETIDORES = 200_000;
+
+    private static final String[] NOMBRES = {"Juan", "José", "Luis", "Carlos", "Jorge", "María", "Rosa", "Ana",
+            "Lucía", "Sofía", "Diego", "Mateo", "Valeria", "Camila", "Miguel", "Andrea", "Renato", "Ximena",
+            "Fernando", "Gabriela", "Santiago", "Daniela", "Alonso", "Fátima", "Sebastián", "Milagros"};
+    private static final String[] APELLIDOS = {"Quispe", "Flores", "Sánchez", "Rodríguez", "García", "Mamani",
+            "Huamán", "Chávez", "Ramírez", "Torres", "Vargas", "Rojas", "Castillo", "Mendoza", "Gutiérrez",
+            "Espinoza", "Díaz", "Pérez", "Cruz", "Ríos", "Salazar", "Condori", "Paredes", "Núñez", "Cárdenas"};
+    private static final String[] ROBOTS = {"Titan", "Rayo", "Condor", "Puma", "Inti", "Volt", "Nexus", "Kuntur",
+            "Atom", "Orion", "Trueno", "Chasqui", "Vortex", "Apu", "Neutron", "Pulsar"};
+
+    @Param({"juan", "quispe mamani", "rodirguez", "kuntur 7", "4512", "ma", "sebastian cardenas flores"})
+    private String consulta;
+
+    private IndiceBusqueda indice;
+
+    @Setup
+    public void preparar() {
+        Random azar = new Random(42);
+        List<FichaCompetidor> fichas = new ArrayList<>(COMPETIDORES);
+        for (int id = 1; id <= COMPETIDORES; id++) {
+            fichas.add(new FichaCompetidor(id,
+                    NOMBRES[azar.nextInt(NOMBRES.length)],
+                    APELLIDOS[azar.nextInt(APELLIDOS.length)] + " " + APELLIDOS[azar.nextInt(APELLIDOS.length)],
+                    String.format("%08d", azar.nextInt(100_000_000)),
+                    ROBOTS[azar.nextInt(ROBOTS.length)] + " " + azar.nextInt(100),
+                    1 + azar.nextInt(500), 1 + azar.nextInt(20), true));
+        }
+        CompetidorRepository repositorio = (CompetidorRepository) Proxy.newProxyInstance(
+                CompetidorRepository.class.getClassLoader(), new Class<?>[]{CompetidorRepository.class},
+                (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("findFichas")) {
+                        return fichas;
+                    }
+                    throw new UnsupportedOperationException(metodo.getName());
+                });
+        indice = new IndiceBusqueda();
+        ReflectionTestUtils.setField(indice, "competidorRepository", repositorio);
+        indice.cargar();
+    }
+
+    @Benchmark
+    public List<FichaCompetidor> buscar() {
+        return indice.buscar(consulta, 20);
+    }
+}
@@ -0,0 +1,103 @@
+package com.robotech.benchmark;
+
+import com.robotech.model.Categoria;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+import com.robotech.model.Rol;
+import com.robotech.model.Usuario;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entidades de ejemplo compartidas por los benchmarks
+ */
+final class DatosBenchmark {
+
+    private DatosBenchmark() {
+    }
+
+    static Rol rol() {
+        return new Rol(1, "Administrador", "Gestiona clubes y categorías", LocalDateTime.now());
+    }
+
+    static Usuario validador() {
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(1);
+        usuario.setCorreo("admin@robotech.com");
+        usuario.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        usuario.setNombre("Admin");
+        usuario.setApellido("Robotech");
+        usuario.setTelefono("999888777");
+        usuario.setRol(rol());
+        usuario.setActivo(true);
+        usuario.setFechaRegistro(LocalDateTime.now());
+        usuario.setUltimoAcceso(LocalDateTime.now());
+        return usuario;
+    }
+
+    static Club club(int id) {
+        Club club = new Club();
+        club.setIdClub(id);
+        club.setNombreClub("Club de Robótica " + id);
+        club.setRepresentante("Representante " + id);
+        club.setCorreoRepresentante("club" + id + "@robotech.com");
+        club.setTelefono("987654321");
+        club.setDireccion("Av. Principal " + id + ", Lima");
+        club.setEstado(Club.EstadoClub.Activo);
+        club.setFechaRegistro(LocalDateTime.now());
+        club.setFechaValidacion(LocalDateTime.now());
+        club.setUsuarioValidador(validador());
+        return club;
+    }
+
+    static Categoria categoria(int id) {
+        Categoria categoria = new Categoria();
+        categoria.setIdCategoria(id);
+        categoria.setNombreCategoria("Sumo " + id);
+        categoria.setDescripcion("Robots autónomos de sumo");
+        categoria.setEdadMinima(10);
+        categoria.setEdadMaxima(18);
+        categoria.setActivo(true);
+        categoria.setFechaCreacion(LocalDateTime.now());
+        return categoria;
+    }
+
+    static Competidor competidor(int id, Club club, Categoria categoria) {
+        Competidor competidor = new Competidor();
+        competidor.setIdCompetidor(id);
+        competidor.setNombre("Nombre" + id);
+        competidor.setApellido("Apellido" + id);
+        competidor.setDocumentoIdentidad(String.format("%08d", id));
+        competidor.setFechaNacimiento(LocalDate.of(2010, 1 + id % 12, 1 + id % 28));
+        competidor.setEdad(10 + id % 9);
+        competidor.setCorreo("competidor" + id + "@robotech.com");
+        competidor.setTelefono("912345678");
+        competidor.setClub(club);
+        competidor.setCategoria(categoria);
+        competidor.setNombreRobot("Robot-" + id);
+        competidor.setFechaInscripcion(LocalDateTime.now());
+        competidor.setActivo(true);
+        return competidor;
+    }
+
+    /**
+     * Plantel para inscripción: club y categoría solo con ID, como llegan en el request
+     */
+    static List<Competidor> plantel(int tamanio, int clubes, int categorias) {
+        List<Competidor> plantel = new ArrayList<>(tamanio);
+        for (int i = 0; i < tamanio; i++) {
+            Club club = new Club();
+            club.setIdClub(1 + i % clubes);
+            Categoria categoria = new Categoria();
+            categoria.setIdCategoria(1 + i % categorias);
+            Competidor competidor = competidor(i + 1, club, categoria);
+            competidor.setIdCompetidor(null);
+            competidor.setFechaInscripcion(null);
+            plantel.add(competidor);
+        }
+        return plantel;
+    }
+}
@@ -0,0 +1,83 @@
+package com.robotech.benchmark;
+
+import com.robotech.controller.ManejadorErrores;
+import com.robotech.dto.RespuestaError;
+import com.robotech.exception.ValidacionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camino de error de una petición inválida: el servicio lanza y el controlador arma la respuesta
+ * - runtimeException: como antes, RuntimeException con pila + catch en el controlador + HashMap
+ * - dominioException: ValidacionException sin pila + ManejadorErrores + RespuestaError
+ * La profundidad simula los frames de Spring (filtros, proxies, @Transactional) entre el controlador y el throw.
+ * Para ver la asignación por operación: -Djmh.args="ErroresBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErroresBenchmark {
+
+    private static final String MENSAJE = "El DNI 12345678 ya está registrado";
+
+    @Param({"20", "120"})
+    private int profundidad;
+
+    private ManejadorErrores manejadorErrores;
+
+    @Setup
+    public void preparar() {
+        manejadorErrores = new ManejadorErrores();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> runtimeException() {
+        try {
+            lanzar(profundidad, false);
+            return null;
+        } catch (RuntimeException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<RespuestaError> dominioException() {
+        try {
+            lanzar(profundidad, true);
+            return null;
+        } catch (ValidacionException e) {
+            return manejadorErrores.validacion(e);
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void lanzar(int profundidad, boolean dominio) {
+        if (profundidad > 0) {
+            lanzar(profundidad - 1, dominio);
+            return;
+        }
+        throw dominio ? new ValidacionException(MENSAJE) : new RuntimeException(MENSAJE);
+    }
+}
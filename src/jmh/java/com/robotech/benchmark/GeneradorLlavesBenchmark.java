@@ -0,0 +1,66 @@
+package com.robotech.benchmark;
+
+import com.robotech.dto.Participante;
+import com.robotech.model.Enfrentamiento;
+import com.robotech.service.GeneradorLlaves;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación de llaves en memoria (sin la inserción en base de datos)
+ * Los clubes tienen tamaños desiguales para ejercitar la separación por club.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneradorLlavesBenchmark {
+
+    @Param({"1000", "100000"})
+    private int participantes;
+
+    private List<Participante> inscritos;
+
+    @Setup
+    public void preparar() {
+        Random azar = new Random(42);
+        int clubes = Math.max(2, participantes / 25);
+        inscritos = new ArrayList<>(participantes);
+        for (int i = 1; i <= participantes; i++) {
+            // Distribución sesgada: pocos clubes grandes y muchos pequeños
+            double u = azar.nextDouble();
+            inscritos.add(new Participante(i, 1 + (int) (clubes * u * u)));
+        }
+    }
+
+    @Benchmark
+    public List<Enfrentamiento> eliminacionSimple() {
+        return GeneradorLlaves.eliminacionSimple(inscritos);
+    }
+
+    @Benchmark
+    public List<Enfrentamiento> eliminacionDoble() {
+        return GeneradorLlaves.eliminacionDoble(inscritos);
+    }
+
+    @Benchmark
+    public List<Enfrentamiento> suizoPrimeraRonda() {
+        return GeneradorLlaves.suizoPrimeraRonda(inscritos);
+    }
+}
@@ -0,0 +1,133 @@
+package com.robotech.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Peticiones por segundo con una ráfaga de PETICIONES simultáneas y un pool Hikari fijo de 10 conexiones,
+ * atendidas por 200 hilos de plataforma (el máximo de Tomcat por defecto) o por un hilo virtual cada una
+ * Cada petición espera ESPERA_MS (llamada externa, cliente lento) y hace una consulta corta:
+ * - fuera: la espera no retiene conexión; con hilos virtuales la ráfaga entera espera a la vez
+ * - dentro: la espera ocurre con la transacción abierta; el pool limita a los dos modos por igual
+ * Los hilos virtuales requieren Java 21: mvn -Pjmh,virtual-threads -DskipTests verify -Djmh.args=HilosVirtualesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class HilosVirtualesBenchmark {
+
+    private static final int PETICIONES = 1000;
+    private static final int HILOS_TOMCAT = 200;
+    private static final int CONEXIONES = 10;
+    private static final long ESPERA_MS = 20;
+    private static final int CLUBES = 50;
+
+    @Param({"plataforma", "virtuales"})
+    private String hilos;
+
+    @Param({"fuera", "dentro"})
+    private String espera;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void preparar() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:hilos;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(CONEXIONES);
+        config.setMinimumIdle(CONEXIONES);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        dataSource = new HikariDataSource(config);
+        try (Connection conexion = dataSource.getConnection(); Statement st = conexion.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS competidor (id_competidor INT PRIMARY KEY, id_club INT)");
+            st.execute("CREATE INDEX IF NOT EXISTS idx_competidor_club ON competidor (id_club)");
+            st.execute("DELETE FROM competidor");
+            st.execute("INSERT INTO competidor SELECT X, MOD(X, " + CLUBES + ") FROM SYSTEM_RANGE(1, 10000)");
+        }
+        executor = "virtuales".equals(hilos) ? hilosVirtuales() : Executors.newFixedThreadPool(HILOS_TOMCAT);
+    }
+
+    @TearDown
+    public void cerrar() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PETICIONES)
+    public long rafaga() throws Exception {
+        boolean dentro = "dentro".equals(espera);
+        List<Future<Long>> respuestas = new ArrayList<>(PETICIONES);
+        for (int i = 0; i < PETICIONES; i++) {
+            int idClub = i % CLUBES;
+            respuestas.add(executor.submit(() -> atender(idClub, dentro)));
+        }
+        long total = 0;
+        for (Future<Long> respuesta : respuestas) {
+            total += respuesta.get();
+        }
+        return total;
+    }
+
+    private long atender(int idClub, boolean esperaDentro) throws Exception {
+        if (!esperaDentro) {
+            Thread.sleep(ESPERA_MS);
+        }
+        try (Connection conexion = dataSource.getConnection()) {
+            conexion.setAutoCommit(false);
+            long competidores;
+            try (PreparedStatement ps = conexion.prepareStatement("SELECT COUNT(*) FROM competidor WHERE id_club = ?")) {
+                ps.setInt(1, idClub);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    competidores = rs.getLong(1);
+                }
+            }
+            if (esperaDentro) {
+                Thread.sleep(ESPERA_MS);
+            }
+            conexion.commit();
+            return competidores;
+        }
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() sin exigir Java 21 para compilar los demás benchmarks
+     */
+    private static ExecutorService hilosVirtuales() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Los hilos virtuales requieren Java 21 (perfil virtual-threads)", e);
+        }
+    }
+}
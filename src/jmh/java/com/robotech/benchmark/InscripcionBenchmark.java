@@ -0,0 +1,267 @@
+package com.robotech.benchmark;
+
+import com.robotech.busqueda.IndiceBusqueda;
+import com.robotech.dto.FichaCompetidor;
+import com.robotech.dto.ResultadoInscripcionMasiva;
+import com.robotech.model.Categoria;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+import com.robotech.model.ConteoCompetidores;
+import com.robotech.repository.ClubRepository;
+import com.robotech.repository.CompetidorRepository;
+import com.robotech.repository.CompetidorRepositoryCustomImpl;
+import com.robotech.repository.ConteoCompetidoresRepository;
+import com.robotech.repository.ConteoCompetidoresRepositoryCustomImpl;
+import com.robotech.repository.UsuarioRepository;
+import com.robotech.service.CategoriaService;
+import com.robotech.service.CompetidorService;
+import com.robotech.service.EstadisticasService;
+import com.robotech.service.ValidadorInscripcion;
+import com.robotech.unicidad.FiltrosUnicidad;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inscripción individual y masiva (POST /competidores y /competidores/batch)
+ * Usa el CompetidorService real; el INSERT por lotes corre contra H2 en memoria
+ * y el resto de repositorios se reemplaza por mapas, así se mide el costo de la aplicación
+ * y del batch JDBC sin depender de un MySQL externo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InscripcionBenchmark {
+
+    private static final int CLUBES = 20;
+    private static final int CATEGORIAS = 5;
+
+    private static final String CREAR_TABLA =
+            "CREATE TABLE competidor (id_competidor INT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(100) NOT NULL, "
+                    + "apellido VARCHAR(100) NOT NULL, documento_identidad VARCHAR(8), fecha_nacimiento DATE, "
+                    + "edad INT, correo VARCHAR(100), telefono VARCHAR(15), id_club INT NOT NULL, "
+                    + "id_categoria INT NOT NULL, nombre_robot VARCHAR(100), fecha_inscripcion TIMESTAMP NOT NULL, "
+                    + "activo BOOLEAN NOT NULL)";
+
+    private static final String CREAR_TABLA_CONTEO =
+            "CREATE TABLE conteo_competidores (ambito VARCHAR(20) NOT NULL, id_ambito INT NOT NULL, "
+                    + "total BIGINT NOT NULL, activos BIGINT NOT NULL, PRIMARY KEY (ambito, id_ambito))";
+
+    private SingleConnectionDataSource dataSource;
+    private AnnotationConfigApplicationContext contexto;
+    private JdbcTemplate jdbcTemplate;
+    private CompetidorService competidorService;
+    private FiltrosUnicidad filtrosUnicidad;
+    private Competidor individual;
+    private Club club;
+    private Categoria categoria;
+
+    /**
+     * Lista a inscribir en /competidores/batch, se arma de nuevo en cada invocación
+     * porque el servicio modifica los competidores recibidos
+     */
+    @State(Scope.Benchmark)
+    public static class Lote {
+
+        @Param({"1000", "10000"})
+        private int tamanio;
+
+        private List<Competidor> plantel;
+
+        @Setup(Level.Invocation)
+        public void preparar(InscripcionBenchmark entorno) {
+            entorno.jdbcTemplate.execute("TRUNCATE TABLE competidor");
+            entorno.jdbcTemplate.execute("TRUNCATE TABLE conteo_competidores");
+            entorno.filtrosUnicidad.reconstruir();
+            plantel = DatosBenchmark.plantel(tamanio, CLUBES, CATEGORIAS);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:inscripcion_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        Connection conexion = h2.getConnection();
+        dataSource = new SingleConnectionDataSource(conexion, true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS competidor");
+        jdbcTemplate.execute(CREAR_TABLA);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS conteo_competidores");
+        jdbcTemplate.execute(CREAR_TABLA_CONTEO);
+
+        Map<Integer, Club> clubes = new HashMap<>();
+        for (int i = 1; i <= CLUBES; i++) {
+            clubes.put(i, DatosBenchmark.club(i));
+        }
+        Map<Integer, Categoria> categorias = new HashMap<>();
+        for (int i = 1; i <= CATEGORIAS; i++) {
+            categorias.put(i, DatosBenchmark.categoria(i));
+        }
+        club = clubes.get(1);
+        categoria = categorias.get(1);
+        individual = DatosBenchmark.plantel(1, CLUBES, CATEGORIAS).get(0);
+
+        // Contexto mínimo: los servicios medidos se construyen y se inyectan como en la aplicación,
+        // así una dependencia nueva sin bean falla aquí al preparar y no con un NPE en plena medición
+        contexto = new AnnotationConfigApplicationContext();
+        contexto.registerBean(JdbcTemplate.class, () -> jdbcTemplate);
+        contexto.registerBean(SimpleMeterRegistry.class);
+        contexto.registerBean(CompetidorRepositoryCustomImpl.class);
+        contexto.registerBean(ConteoCompetidoresRepositoryCustomImpl.class);
+        contexto.registerBean(ClubRepository.class, () -> clubRepository(clubes));
+        contexto.registerBean(UsuarioRepository.class, InscripcionBenchmark::usuarioRepository);
+        contexto.registerBean(CompetidorRepository.class,
+                () -> competidorRepository(contexto.getBean(CompetidorRepositoryCustomImpl.class)));
+        contexto.registerBean(ConteoCompetidoresRepository.class,
+                () -> conteoRepository(contexto.getBean(ConteoCompetidoresRepositoryCustomImpl.class)));
+        // Sustituto ya armado: registerSingleton no lo inyecta, solo se usa buscarPorId
+        contexto.getBeanFactory().registerSingleton("categoriaService", new CategoriaService() {
+            @Override
+            public Optional<Categoria> buscarPorId(Integer id) {
+                return Optional.ofNullable(categorias.get(id));
+            }
+        });
+        // Sin transacción activa el índice descarta los eventos: se actualiza después del commit, fuera de lo medido
+        contexto.registerBean(IndiceBusqueda.class);
+        // Filtros como los de una base sin competidores ni usuarios, igual que la tabla al empezar cada lote
+        contexto.registerBean(FiltrosUnicidad.class);
+        contexto.registerBean(EstadisticasService.class);
+        contexto.registerBean(CompetidorService.class);
+        contexto.refresh();
+
+        competidorService = contexto.getBean(CompetidorService.class);
+        filtrosUnicidad = contexto.getBean(FiltrosUnicidad.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        contexto.close();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public ResultadoInscripcionMasiva inscripcionMasiva(Lote lote) {
+        return competidorService.inscribirCompetidores(lote.plantel);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Competidor inscripcionIndividual() {
+        return competidorService.inscribirCompetidor(individual);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String validacion() {
+        return ValidadorInscripcion.validar(individual, club, categoria);
+    }
+
+    private static ClubRepository clubRepository(Map<Integer, Club> clubes) {
+        return stub(ClubRepository.class, (metodo, argumentos) -> switch (metodo) {
+            case "findById" -> Optional.ofNullable(clubes.get((Integer) argumentos[0]));
+            case "findAllById" -> {
+                List<Club> encontrados = new ArrayList<>();
+                for (Object id : (Iterable<?>) argumentos[0]) {
+                    Club encontrado = clubes.get((Integer) id);
+                    if (encontrado != null) {
+                        encontrados.add(encontrado);
+                    }
+                }
+                yield encontrados;
+            }
+            case "count" -> (long) clubes.size();
+            case "findNombres" -> clubes.values().stream().map(Club::getNombreClub).toList();
+            case "findCorreosRepresentante" -> clubes.values().stream().map(Club::getCorreoRepresentante).toList();
+            default -> throw new UnsupportedOperationException(metodo);
+        });
+    }
+
+    private static CompetidorRepository competidorRepository(CompetidorRepositoryCustomImpl insercion) {
+        return stub(CompetidorRepository.class, (metodo, argumentos) -> switch (metodo) {
+            case "existsByDocumentoIdentidad" -> false;
+            case "count" -> 0L;
+            case "findDocumentos" -> List.<String>of();
+            case "findDocumentosRegistrados" -> new HashSet<String>();
+            case "findFichas" -> List.<FichaCompetidor>of();
+            case "insertarEnLote" -> {
+                @SuppressWarnings("unchecked")
+                List<Competidor> competidores = (List<Competidor>) argumentos[0];
+                insercion.insertarEnLote(competidores);
+                yield null;
+            }
+            case "save" -> {
+                Competidor competidor = (Competidor) argumentos[0];
+                insercion.insertarEnLote(List.of(competidor));
+                yield competidor;
+            }
+            default -> throw new UnsupportedOperationException(metodo);
+        });
+    }
+
+    private static UsuarioRepository usuarioRepository() {
+        return stub(UsuarioRepository.class, (metodo, argumentos) -> switch (metodo) {
+            case "count" -> 0L;
+            case "findCorreos", "findTelefonos" -> List.<String>of();
+            default -> throw new UnsupportedOperationException(metodo);
+        });
+    }
+
+    private static ConteoCompetidoresRepository conteoRepository(ConteoCompetidoresRepositoryCustomImpl conteos) {
+        return stub(ConteoCompetidoresRepository.class, (metodo, argumentos) -> switch (metodo) {
+            case "sumarEnLote" -> {
+                @SuppressWarnings("unchecked")
+                List<ConteoCompetidores> variaciones = (List<ConteoCompetidores>) argumentos[0];
+                conteos.sumarEnLote(variaciones);
+                yield null;
+            }
+            default -> throw new UnsupportedOperationException(metodo);
+        });
+    }
+
+    /**
+     * hashCode, equals y toString por identidad: el contexto los usa al registrar los beans
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> tipo, Respuesta respuesta) {
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo},
+                (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == argumentos[0];
+                    case "toString" -> tipo.getSimpleName();
+                    default -> respuesta.responder(metodo.getName(), argumentos);
+                });
+    }
+
+    @FunctionalInterface
+    private interface Respuesta {
+        Object responder(String metodo, Object[] argumentos);
+    }
+}
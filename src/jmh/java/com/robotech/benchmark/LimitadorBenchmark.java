@@ -0,0 +1,49 @@
+package com.robotech.benchmark;
+
+import com.robotech.security.LimitadorTokenBucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite de intentos de login con muchas IP distintas concurrentes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class LimitadorBenchmark {
+
+    private static final int IPS = 50_000;
+
+    private LimitadorTokenBucket limitador;
+    private String[] ips;
+
+    @Setup
+    public void preparar() {
+        limitador = new LimitadorTokenBucket(20, TimeUnit.SECONDS.toNanos(3), 100_000, 64);
+        ips = new String[IPS];
+        for (int i = 0; i < IPS; i++) {
+            ips[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public long intentar() {
+        return limitador.intentar(ips[ThreadLocalRandom.current().nextInt(IPS)]);
+    }
+}
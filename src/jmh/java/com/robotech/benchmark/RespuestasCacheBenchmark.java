@@ -0,0 +1,137 @@
+package com.robotech.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.robotech.model.Club;
+import com.robotech.service.CacheRespuestas;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Peticiones por segundo de GET /clubes/activos sin caché (Jackson serializa la lista en cada petición)
+ * contra un acierto de {@link CacheRespuestas}, con y sin gzip
+ * No incluye la consulta a la base, que el acierto también se ahorra.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RespuestasCacheBenchmark {
+
+    private static final String ETAG = "\"1-1\"";
+
+    @Param({"50", "500"})
+    private int clubes;
+
+    private ObjectMapper objectMapper;
+    private CacheRespuestas cacheRespuestas;
+    private List<Club> activos;
+    private ServletWebRequest peticion;
+    private ServletWebRequest peticionGzip;
+
+    @Setup
+    public void preparar() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        activos = new ArrayList<>(clubes);
+        for (int i = 1; i <= clubes; i++) {
+            activos.add(DatosBenchmark.club(i));
+        }
+
+        cacheRespuestas = new CacheRespuestas();
+        ReflectionTestUtils.setField(cacheRespuestas, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(cacheRespuestas, "gzipMinimo", 1024);
+
+        peticion = new ServletWebRequest(new MockHttpServletRequest("GET", "/clubes/activos"));
+        MockHttpServletRequest conGzip = new MockHttpServletRequest("GET", "/clubes/activos");
+        conGzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        peticionGzip = new ServletWebRequest(conGzip);
+        // Primera petición: llena la caché
+        cacheRespuestas.escribir("clubes.activos", ETAG, () -> activos, peticion, new RespuestaEnMemoria());
+    }
+
+    @Benchmark
+    public byte[] sinCache() throws Exception {
+        RespuestaEnMemoria response = new RespuestaEnMemoria();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), activos);
+        return response.contenido();
+    }
+
+    @Benchmark
+    public byte[] cacheJson() throws Exception {
+        RespuestaEnMemoria response = new RespuestaEnMemoria();
+        cacheRespuestas.escribir("clubes.activos", ETAG, () -> activos, peticion, response);
+        return response.contenido();
+    }
+
+    @Benchmark
+    public byte[] cacheGzip() throws Exception {
+        RespuestaEnMemoria response = new RespuestaEnMemoria();
+        cacheRespuestas.escribir("clubes.activos", ETAG, () -> activos, peticionGzip, response);
+        return response.contenido();
+    }
+
+    /**
+     * Respuesta que escribe en bloque a memoria: el stream de MockHttpServletResponse copia byte a byte
+     * y su costo taparía la diferencia que se quiere medir
+     */
+    private static final class RespuestaEnMemoria extends MockHttpServletResponse {
+        private final ByteArrayOutputStream contenido = new ByteArrayOutputStream(8192);
+        private final ServletOutputStream salida = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                contenido.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                contenido.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return salida;
+        }
+
+        byte[] contenido() {
+            return contenido.toByteArray();
+        }
+    }
+}
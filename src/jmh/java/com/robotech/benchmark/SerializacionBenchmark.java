@@ -0,0 +1,74 @@
+package com.robotech.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.robotech.dto.PaginaCursor;
+import com.robotech.model.Categoria;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización a JSON de las entidades tal como las devuelven los controladores
+ * (Competidor con club, validador, rol y categoría anidados)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacionBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Club club;
+    private Competidor competidor;
+    private PaginaCursor<Competidor> pagina;
+
+    @Setup
+    public void preparar() {
+        // Misma configuración que spring.jackson.* en application.properties
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+
+        club = DatosBenchmark.club(1);
+        Categoria categoria = DatosBenchmark.categoria(1);
+        competidor = DatosBenchmark.competidor(1, club, categoria);
+
+        List<Competidor> contenido = new ArrayList<>();
+        for (int i = 1; i <= PaginaCursor.LIMITE_POR_DEFECTO; i++) {
+            contenido.add(DatosBenchmark.competidor(i, DatosBenchmark.club(i % 5), categoria));
+        }
+        pagina = new PaginaCursor<>(contenido, PaginaCursor.LIMITE_POR_DEFECTO, PaginaCursor.LIMITE_POR_DEFECTO);
+    }
+
+    @Benchmark
+    public byte[] club() throws Exception {
+        return objectMapper.writeValueAsBytes(club);
+    }
+
+    @Benchmark
+    public byte[] competidor() throws Exception {
+        return objectMapper.writeValueAsBytes(competidor);
+    }
+
+    @Benchmark
+    public byte[] paginaCompetidores() throws Exception {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+}
@@ -0,0 +1,75 @@
+package com.robotech.benchmark;
+
+import com.robotech.model.Usuario;
+import com.robotech.security.PrincipalUsuario;
+import com.robotech.security.RevocacionTokens;
+import com.robotech.security.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión y verificación de tokens de sesión (TokenService)
+ * verificarSinCache mide firma + decodificación, verificarConCache el camino habitual
+ * de un token que ya se vio en una petición anterior.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+    private static final String SECRETO = "robotech-secreto-de-benchmark-0123456789abcdef";
+
+    private TokenService conCache;
+    private TokenService sinCache;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        Duration duracion = Duration.ofHours(8);
+        conCache = nuevoTokenService(duracion, 10_000);
+        sinCache = nuevoTokenService(duracion, 0);
+        usuario = DatosBenchmark.validador();
+        token = conCache.emitir(usuario);
+    }
+
+    @Benchmark
+    public String emitir() {
+        return conCache.emitir(usuario);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<PrincipalUsuario> verificarConCache() {
+        return conCache.verificar(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<PrincipalUsuario> verificarSinCache() {
+        return sinCache.verificar(token);
+    }
+
+    private static TokenService nuevoTokenService(Duration duracion, long tamanioCache) {
+        TokenService tokenService = new TokenService(SECRETO, duracion, tamanioCache);
+        ReflectionTestUtils.setField(tokenService, "revocacionTokens", new RevocacionTokens(duracion));
+        return tokenService;
+    }
+}
@@ -0,0 +1,421 @@
+package com.robotech.busqueda;
+
+import com.robotech.dto.FichaCompetidor;
+import com.robotech.event.CompetidoresCambiadosEvent;
+import com.robotech.repository.CompetidorRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Búsqueda en memoria de competidores por nombre, apellido, DNI y nombre del robot
+ * Cada palabra (sin tildes, en minúsculas) se indexa en un {@link TriePrefijos}. Una consulta con
+ * varios términos devuelve los competidores que coinciden con todos, ordenados por la suma de puntajes:
+ * palabra exacta, prefijo, y luego lo mismo con un error. Los términos cortos no admiten errores.
+ * Cada competidor ocupa una posición fija en arreglos, así los puntajes de una consulta se acumulan
+ * en arreglos de primitivos en lugar de mapas.
+ * Se carga al iniciar y se actualiza con los cambios confirmados de CompetidorService.
+ */
+@Component
+public class IndiceBusqueda {
+
+    // Términos más cortos se buscan solo sin errores: con un error coincidirían con casi todo
+    static final int LARGO_MINIMO_CON_ERROR = 4;
+
+    // Desde el segundo término, si recorrer el trie pesa más que comparar directamente las palabras de
+    // cada candidato, se comparan ("kuntur 7": el 7 abarca miles de DNI). Costo estimado de comparar
+    // un candidato, en nodos del trie: sin errores es un startsWith, con un error una distancia de edición.
+    private static final int PESO_COMPARAR_SIN_ERROR = 2;
+    private static final int PESO_COMPARAR_CON_ERROR = 48;
+
+    // Los términos cortos abarcan más candidatos: para compararlos, cada palabra se resume además en un int
+    // (sus primeras letras y su largo) guardado junto a los de su posición, sin visitar los String
+    private static final int LETRAS_CODIGO = LARGO_MINIMO_CON_ERROR - 1;
+    private static final int BITS_LETRA = 6;
+    private static final int CODIGOS_POR_POSICION = 8;
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private final TriePrefijos trie = new TriePrefijos();
+    private final Map<Integer, Integer> posicionPorCompetidor = new HashMap<>();
+    private FichaCompetidor[] fichas = new FichaCompetidor[1024];
+    // Palabras ya normalizadas de cada posición, para quitarla del trie
+    private String[][] palabras = new String[1024][];
+    private int[] codigos = new int[1024 * CODIGOS_POR_POSICION];
+    // Más de CODIGOS_POR_POSICION: la posición se compara por sus palabras
+    private byte[] cantidadCodigos = new byte[1024];
+    private int[] libres = new int[16];
+    private int cantidadLibres;
+    private int ocupadas;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Arreglos de consulta reutilizados: ocupan 5 bytes por competidor y asignarlos en cada búsqueda
+    // llenaba la generación joven (pausas de GC en el p99)
+    private final Queue<Consulta> consultasLibres = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    @PostConstruct
+    public void cargar() {
+        List<FichaCompetidor> todas = competidorRepository.findFichas();
+        lock.writeLock().lock();
+        try {
+            for (FichaCompetidor ficha : todas) {
+                indexar(ficha);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aplicar(CompetidoresCambiadosEvent evento) {
+        lock.writeLock().lock();
+        try {
+            for (Integer idCompetidor : evento.eliminados()) {
+                desindexar(idCompetidor);
+            }
+            for (FichaCompetidor ficha : evento.guardados()) {
+                desindexar(ficha.idCompetidor());
+                indexar(ficha);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Competidores que coinciden con todos los términos del texto, los mejores primero
+     * (a igual puntaje, por ID)
+     */
+    public List<FichaCompetidor> buscar(String texto, int limite) {
+        List<String> terminos = new ArrayList<>(palabras(texto));
+        if (terminos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        // El término más largo suele ser el más selectivo: define los candidatos que los demás filtran
+        terminos.sort(Comparator.comparingInt(String::length).reversed());
+
+        lock.readLock().lock();
+        try {
+            Consulta consulta = consultasLibres.poll();
+            if (consulta == null || consulta.suma.length < ocupadas) {
+                consulta = new Consulta(ocupadas);
+            }
+            consulta.iniciar(ocupadas);
+            for (int t = 0; t < terminos.size() && consulta.cantidadCandidatos > 0; t++) {
+                String termino = terminos.get(t);
+                int maximoErrores = maximoErrores(termino);
+                long pesoMaximo = t == 0 ? Long.MAX_VALUE : (long) consulta.cantidadCandidatos
+                        * (maximoErrores == 0 ? PESO_COMPARAR_SIN_ERROR : PESO_COMPARAR_CON_ERROR);
+                if (!trie.buscar(termino, maximoErrores, pesoMaximo, consulta::acumular)) {
+                    compararCandidatos(consulta, termino);
+                }
+                consulta.cerrarTermino();
+            }
+            List<FichaCompetidor> resultado = mejores(consulta, limite);
+            consulta.limpiar();
+            consultasLibres.offer(consulta);
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void compararCandidatos(Consulta consulta, String termino) {
+        int maximoErrores = maximoErrores(termino);
+        boolean corto = termino.length() <= LETRAS_CODIGO;
+        int codigoTermino = codigo(termino);
+        int mascara = mascara(termino.length());
+        for (int c = 0; c < consulta.cantidadCandidatos; c++) {
+            int posicion = consulta.candidatos[c];
+            if (corto && cantidadCodigos[posicion] <= CODIGOS_POR_POSICION) {
+                int puntaje = puntajeCorto(posicion, codigoTermino, mascara);
+                if (puntaje > 0) {
+                    consulta.acumular(posicion, puntaje);
+                }
+                continue;
+            }
+            for (String palabra : palabras[posicion]) {
+                int puntaje = TriePrefijos.puntaje(termino, palabra, maximoErrores);
+                if (puntaje > 0) {
+                    consulta.acumular(posicion, puntaje);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mismo puntaje que {@link TriePrefijos#puntaje} sin errores, para un término de hasta LETRAS_CODIGO letras
+     */
+    private int puntajeCorto(int posicion, int codigoTermino, int mascara) {
+        int puntaje = 0;
+        int inicio = posicion * CODIGOS_POR_POSICION;
+        for (int i = inicio; i < inicio + cantidadCodigos[posicion]; i++) {
+            if ((codigos[i] & mascara) == (codigoTermino & mascara)) {
+                // Mismo largo (el término no supera LETRAS_CODIGO): palabra exacta
+                if (codigos[i] >>> (BITS_LETRA * LETRAS_CODIGO) == codigoTermino >>> (BITS_LETRA * LETRAS_CODIGO)) {
+                    return TriePrefijos.PUNTAJE_EXACTA;
+                }
+                puntaje = TriePrefijos.PUNTAJE_PREFIJO;
+            }
+        }
+        return puntaje;
+    }
+
+    /**
+     * Primeras LETRAS_CODIGO letras (1-36, 0 si la palabra es más corta) y el largo hasta LETRAS_CODIGO + 1
+     * Las palabras ya normalizadas solo tienen a-z y 0-9.
+     */
+    static int codigo(String palabra) {
+        int letras = Math.min(palabra.length(), LETRAS_CODIGO);
+        int codigo = Math.min(palabra.length(), LETRAS_CODIGO + 1) << (BITS_LETRA * LETRAS_CODIGO);
+        for (int i = 0; i < letras; i++) {
+            char letra = palabra.charAt(i);
+            int simbolo = letra <= '9' ? letra - '0' + 1 : letra - 'a' + 11;
+            codigo |= simbolo << (BITS_LETRA * (LETRAS_CODIGO - 1 - i));
+        }
+        return codigo;
+    }
+
+    private static int mascara(int letras) {
+        int mascara = 0;
+        for (int i = 0; i < Math.min(letras, LETRAS_CODIGO); i++) {
+            mascara |= ((1 << BITS_LETRA) - 1) << (BITS_LETRA * (LETRAS_CODIGO - 1 - i));
+        }
+        return mascara;
+    }
+
+    public int tamanio() {
+        lock.readLock().lock();
+        try {
+            return posicionPorCompetidor.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Los limite mejores candidatos con un montículo de claves (puntaje, ID) empaquetadas en un long
+     */
+    private List<FichaCompetidor> mejores(Consulta consulta, int limite) {
+        long[] monticulo = new long[Math.min(limite, consulta.cantidadCandidatos)];
+        int tamanio = 0;
+        for (int c = 0; c < consulta.cantidadCandidatos; c++) {
+            int posicion = consulta.candidatos[c];
+            // Mayor puntaje y menor ID = clave mayor; la cima del montículo es la peor clave guardada
+            long clave = ((long) consulta.suma[posicion] << 32) | (~fichas[posicion].idCompetidor() & 0xFFFFFFFFL);
+            if (tamanio < monticulo.length) {
+                monticulo[tamanio++] = clave;
+                subir(monticulo, tamanio - 1);
+            } else if (clave > monticulo[0]) {
+                monticulo[0] = clave;
+                bajar(monticulo, tamanio);
+            }
+        }
+        Arrays.sort(monticulo, 0, tamanio);
+        List<FichaCompetidor> resultado = new ArrayList<>(tamanio);
+        for (int i = tamanio - 1; i >= 0; i--) {
+            int idCompetidor = ~(int) monticulo[i];
+            resultado.add(fichas[posicionPorCompetidor.get(idCompetidor)]);
+        }
+        return resultado;
+    }
+
+    private static void subir(long[] monticulo, int i) {
+        while (i > 0 && monticulo[(i - 1) / 2] > monticulo[i]) {
+            intercambiar(monticulo, i, (i - 1) / 2);
+            i = (i - 1) / 2;
+        }
+    }
+
+    private static void bajar(long[] monticulo, int tamanio) {
+        int i = 0;
+        while (true) {
+            int menor = i;
+            int izquierdo = 2 * i + 1;
+            if (izquierdo < tamanio && monticulo[izquierdo] < monticulo[menor]) {
+                menor = izquierdo;
+            }
+            if (izquierdo + 1 < tamanio && monticulo[izquierdo + 1] < monticulo[menor]) {
+                menor = izquierdo + 1;
+            }
+            if (menor == i) {
+                return;
+            }
+            intercambiar(monticulo, i, menor);
+            i = menor;
+        }
+    }
+
+    private static void intercambiar(long[] monticulo, int a, int b) {
+        long temporal = monticulo[a];
+        monticulo[a] = monticulo[b];
+        monticulo[b] = temporal;
+    }
+
+    private void indexar(FichaCompetidor ficha) {
+        int posicion;
+        if (cantidadLibres > 0) {
+            posicion = libres[--cantidadLibres];
+        } else {
+            posicion = ocupadas++;
+            if (posicion == fichas.length) {
+                fichas = Arrays.copyOf(fichas, posicion * 2);
+                palabras = Arrays.copyOf(palabras, posicion * 2);
+                codigos = Arrays.copyOf(codigos, posicion * 2 * CODIGOS_POR_POSICION);
+                cantidadCodigos = Arrays.copyOf(cantidadCodigos, posicion * 2);
+            }
+        }
+        String[] palabrasFicha = palabras(ficha).toArray(new String[0]);
+        fichas[posicion] = ficha;
+        palabras[posicion] = palabrasFicha;
+        cantidadCodigos[posicion] = (byte) Math.min(palabrasFicha.length, CODIGOS_POR_POSICION + 1);
+        for (int i = 0; i < palabrasFicha.length && i < CODIGOS_POR_POSICION; i++) {
+            codigos[posicion * CODIGOS_POR_POSICION + i] = codigo(palabrasFicha[i]);
+        }
+        posicionPorCompetidor.put(ficha.idCompetidor(), posicion);
+        for (String palabra : palabrasFicha) {
+            trie.agregar(palabra, posicion);
+        }
+    }
+
+    private void desindexar(Integer idCompetidor) {
+        Integer posicion = posicionPorCompetidor.remove(idCompetidor);
+        if (posicion == null) {
+            return;
+        }
+        for (String palabra : palabras[posicion]) {
+            trie.quitar(palabra, posicion);
+        }
+        fichas[posicion] = null;
+        palabras[posicion] = null;
+        if (cantidadLibres == libres.length) {
+            libres = Arrays.copyOf(libres, cantidadLibres * 2);
+        }
+        libres[cantidadLibres++] = posicion;
+    }
+
+    private static int maximoErrores(String termino) {
+        return termino.length() >= LARGO_MINIMO_CON_ERROR ? 1 : 0;
+    }
+
+    private static Set<String> palabras(FichaCompetidor ficha) {
+        Set<String> palabras = new LinkedHashSet<>();
+        agregarPalabras(palabras, ficha.nombre());
+        agregarPalabras(palabras, ficha.apellido());
+        agregarPalabras(palabras, ficha.documentoIdentidad());
+        agregarPalabras(palabras, ficha.nombreRobot());
+        return palabras;
+    }
+
+    /**
+     * Palabras del texto sin tildes y en minúsculas ("Peña-Núñez" → pena, nunez)
+     */
+    static Set<String> palabras(String texto) {
+        Set<String> palabras = new LinkedHashSet<>();
+        agregarPalabras(palabras, texto);
+        return palabras;
+    }
+
+    private static void agregarPalabras(Set<String> palabras, String texto) {
+        if (texto == null || texto.isBlank()) {
+            return;
+        }
+        String normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String palabra : SEPARADORES.split(normalizado)) {
+            if (!palabra.isEmpty()) {
+                palabras.add(palabra);
+            }
+        }
+    }
+
+    /**
+     * Puntajes de una consulta, indexados por posición
+     * El primer término define los candidatos; cada término siguiente deja solo los que también coinciden con él.
+     */
+    private static final class Consulta {
+        final int[] suma;
+        final byte[] mejorDelTermino;
+        int[] candidatos;
+        int cantidadCandidatos;
+        int[] tocadas = new int[64];
+        int cantidadTocadas;
+        boolean primerTermino = true;
+
+        Consulta(int posiciones) {
+            suma = new int[posiciones];
+            mejorDelTermino = new byte[posiciones];
+        }
+
+        void iniciar(int posiciones) {
+            cantidadCandidatos = posiciones;
+            primerTermino = true;
+        }
+
+        /**
+         * Deja suma en cero para reutilizarla; los candidatos descartados ya se limpiaron al cerrar cada término
+         */
+        void limpiar() {
+            for (int c = 0; c < cantidadCandidatos; c++) {
+                suma[candidatos[c]] = 0;
+            }
+            cantidadCandidatos = 0;
+        }
+
+        void acumular(int posicion, int puntaje) {
+            if (mejorDelTermino[posicion] == 0) {
+                if (cantidadTocadas == tocadas.length) {
+                    tocadas = Arrays.copyOf(tocadas, cantidadTocadas * 2);
+                }
+                tocadas[cantidadTocadas++] = posicion;
+            }
+            if (puntaje > mejorDelTermino[posicion]) {
+                mejorDelTermino[posicion] = (byte) puntaje;
+            }
+        }
+
+        void cerrarTermino() {
+            if (primerTermino) {
+                candidatos = Arrays.copyOf(tocadas, cantidadTocadas);
+                cantidadCandidatos = cantidadTocadas;
+                primerTermino = false;
+            }
+            int quedan = 0;
+            for (int c = 0; c < cantidadCandidatos; c++) {
+                int posicion = candidatos[c];
+                if (mejorDelTermino[posicion] > 0) {
+                    suma[posicion] += mejorDelTermino[posicion];
+                    candidatos[quedan++] = posicion;
+                } else {
+                    suma[posicion] = 0;
+                }
+            }
+            cantidadCandidatos = quedan;
+            for (int i = 0; i < cantidadTocadas; i++) {
+                mejorDelTermino[tocadas[i]] = 0;
+            }
+            cantidadTocadas = 0;
+        }
+    }
+}
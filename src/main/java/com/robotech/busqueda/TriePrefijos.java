@@ -0,0 +1,273 @@
+package com.robotech.busqueda;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie de palabras normalizadas con los IDs de los competidores que las contienen
+ * La búsqueda es por prefijo con hasta maximoErrores errores (inserción, borrado, sustitución
+ * o transposición de dos letras vecinas): recorre el trie calculando la fila de la distancia
+ * de edición de cada nodo y poda las ramas que ya superan el máximo.
+ * No es thread-safe: la sincronización está en {@link IndiceBusqueda}.
+ */
+final class TriePrefijos {
+
+    // Puntaje de una palabra según cómo coincide con el término buscado
+    static final int PUNTAJE_EXACTA = 4;
+    static final int PUNTAJE_PREFIJO = 3;
+    static final int PUNTAJE_EXACTA_CON_ERROR = 2;
+    static final int PUNTAJE_PREFIJO_CON_ERROR = 1;
+
+    private static final char[] SIN_LETRAS = new char[0];
+    private static final Nodo[] SIN_HIJOS = new Nodo[0];
+    private static final int[] SIN_IDS = new int[0];
+
+    private final Nodo raiz = new Nodo();
+
+    void agregar(String palabra, int id) {
+        Nodo[] camino = new Nodo[palabra.length() + 1];
+        camino[0] = raiz;
+        int primerCreado = camino.length;
+        for (int i = 0; i < palabra.length(); i++) {
+            Nodo hijo = camino[i].hijo(palabra.charAt(i));
+            if (hijo == null) {
+                hijo = camino[i].hijoCreando(palabra.charAt(i));
+                primerCreado = Math.min(primerCreado, i + 1);
+            }
+            camino[i + 1] = hijo;
+        }
+        camino[palabra.length()].agregarId(id);
+        // Cada nodo del camino suma el ID y los nodos nuevos de su subárbol (él mismo, si es nuevo)
+        for (int i = 0; i < camino.length; i++) {
+            camino[i].peso += 1 + camino.length - Math.max(primerCreado, i);
+        }
+    }
+
+    void quitar(String palabra, int id) {
+        Nodo[] camino = new Nodo[palabra.length() + 1];
+        camino[0] = raiz;
+        for (int i = 0; i < palabra.length(); i++) {
+            camino[i + 1] = camino[i].hijo(palabra.charAt(i));
+            if (camino[i + 1] == null) {
+                return;
+            }
+        }
+        if (camino[palabra.length()].quitarId(id)) {
+            for (Nodo nodo : camino) {
+                nodo.peso--;
+            }
+        }
+    }
+
+    /**
+     * Entrega al acumulador cada competidor con alguna palabra que empieza por el término
+     * (o casi, con hasta maximoErrores errores) y el puntaje de esa palabra
+     * Un mismo competidor puede llegar varias veces, el acumulador se queda con el mejor puntaje.
+     *
+     * @param pesoMaximo nodos e IDs que se está dispuesto a recorrer
+     * @return false, sin entregar nada, si recorrer las coincidencias supera pesoMaximo
+     */
+    boolean buscar(String termino, int maximoErrores, long pesoMaximo, Acumulador acumulador) {
+        char[] q = termino.toCharArray();
+        int[] fila = new int[q.length + 1];
+        for (int i = 0; i <= q.length; i++) {
+            fila[i] = i;
+        }
+        List<Coincidencia> coincidencias = new ArrayList<>();
+        if (fila[q.length] <= maximoErrores) {
+            coincidencias.add(new Coincidencia(raiz, fila[q.length], false));
+        }
+        recorrer(raiz, q, fila, null, (char) 0, maximoErrores, fila[q.length], coincidencias);
+
+        long peso = 0;
+        for (Coincidencia coincidencia : coincidencias) {
+            peso += coincidencia.soloNodo() ? coincidencia.nodo().cantidadIds : coincidencia.nodo().peso;
+        }
+        if (peso > pesoMaximo) {
+            return false;
+        }
+        for (Coincidencia coincidencia : coincidencias) {
+            recolectar(coincidencia, acumulador);
+        }
+        return true;
+    }
+
+    /**
+     * Mejor puntaje del término contra una palabra (0 si no coincide), con el mismo criterio que buscar
+     */
+    static int puntaje(String termino, String palabra, int maximoErrores) {
+        if (maximoErrores == 0) {
+            return !palabra.startsWith(termino) ? 0 : palabra.length() == termino.length() ? PUNTAJE_EXACTA : PUNTAJE_PREFIJO;
+        }
+        char[] q = termino.toCharArray();
+        int[] fila = new int[q.length + 1];
+        for (int i = 0; i <= q.length; i++) {
+            fila[i] = i;
+        }
+        // Mejor distancia entre el término y un prefijo propio de la palabra
+        int mejorPrefijo = fila[q.length];
+        int[] anterior = null;
+        char letraAnterior = 0;
+        for (int j = 0; j < palabra.length(); j++) {
+            if (j > 0) {
+                mejorPrefijo = Math.min(mejorPrefijo, fila[q.length]);
+            }
+            char letra = palabra.charAt(j);
+            int[] nueva = siguienteFila(q, fila, anterior, letra, letraAnterior);
+            if (minimo(nueva) > maximoErrores) {
+                return mejorPrefijo <= maximoErrores ? puntajeDe(mejorPrefijo, false) : 0;
+            }
+            anterior = fila;
+            fila = nueva;
+            letraAnterior = letra;
+        }
+        int puntaje = fila[q.length] <= maximoErrores ? puntajeDe(fila[q.length], true) : 0;
+        if (mejorPrefijo <= maximoErrores) {
+            puntaje = Math.max(puntaje, puntajeDe(mejorPrefijo, false));
+        }
+        return puntaje;
+    }
+
+    private static int puntajeDe(int distancia, boolean completa) {
+        if (distancia == 0) {
+            return completa ? PUNTAJE_EXACTA : PUNTAJE_PREFIJO;
+        }
+        return completa ? PUNTAJE_EXACTA_CON_ERROR : PUNTAJE_PREFIJO_CON_ERROR;
+    }
+
+    private void recorrer(Nodo nodo, char[] q, int[] fila, int[] anterior, char letraAnterior,
+                          int maximoErrores, int mejorAncestro, List<Coincidencia> coincidencias) {
+        for (int h = 0; h < nodo.cantidadHijos; h++) {
+            char letra = nodo.letras[h];
+            Nodo hijo = nodo.hijos[h];
+            int[] nueva = siguienteFila(q, fila, anterior, letra, letraAnterior);
+            if (minimo(nueva) > maximoErrores) {
+                continue;
+            }
+            int distancia = nueva[q.length];
+            int mejor = mejorAncestro;
+            // Solo interesa un nodo más profundo si mejora la distancia del prefijo que ya coincidió
+            if (distancia <= maximoErrores && distancia < mejorAncestro) {
+                coincidencias.add(new Coincidencia(hijo, distancia, false));
+                mejor = distancia;
+            } else if (distancia <= maximoErrores && hijo.cantidadIds > 0) {
+                // Ya cubierta por el prefijo del ancestro, pero como palabra completa puntúa más
+                coincidencias.add(new Coincidencia(hijo, distancia, true));
+            }
+            if (mejor > 0) {
+                recorrer(hijo, q, nueva, fila, letra, maximoErrores, mejor, coincidencias);
+            }
+        }
+    }
+
+    private static void recolectar(Coincidencia coincidencia, Acumulador acumulador) {
+        ArrayDeque<Nodo> pendientes = new ArrayDeque<>();
+        pendientes.push(coincidencia.nodo());
+        while (!pendientes.isEmpty()) {
+            Nodo nodo = pendientes.pop();
+            int puntaje = puntajeDe(coincidencia.distancia(), nodo == coincidencia.nodo());
+            for (int i = 0; i < nodo.cantidadIds; i++) {
+                acumulador.acumular(nodo.ids[i], puntaje);
+            }
+            if (coincidencia.soloNodo()) {
+                break;
+            }
+            for (int h = 0; h < nodo.cantidadHijos; h++) {
+                pendientes.push(nodo.hijos[h]);
+            }
+        }
+    }
+
+    /**
+     * Fila de la distancia de edición (con transposiciones) al agregar una letra a la palabra:
+     * nueva[i] es la distancia entre los primeros i caracteres del término y la palabra hasta esa letra
+     */
+    private static int[] siguienteFila(char[] q, int[] fila, int[] anterior, char letra, char letraAnterior) {
+        int[] nueva = new int[q.length + 1];
+        nueva[0] = fila[0] + 1;
+        for (int i = 1; i <= q.length; i++) {
+            int costo = q[i - 1] == letra ? 0 : 1;
+            int valor = Math.min(Math.min(fila[i] + 1, nueva[i - 1] + 1), fila[i - 1] + costo);
+            if (anterior != null && i > 1 && q[i - 1] == letraAnterior && q[i - 2] == letra) {
+                valor = Math.min(valor, anterior[i - 2] + 1);
+            }
+            nueva[i] = valor;
+        }
+        return nueva;
+    }
+
+    private static int minimo(int[] fila) {
+        int minimo = Integer.MAX_VALUE;
+        for (int valor : fila) {
+            minimo = Math.min(minimo, valor);
+        }
+        return minimo;
+    }
+
+    /**
+     * @param soloNodo solo las palabras que terminan en el nodo, su subárbol ya lo cubre otra coincidencia
+     */
+    private record Coincidencia(Nodo nodo, int distancia, boolean soloNodo) {
+    }
+
+    @FunctionalInterface
+    interface Acumulador {
+        void acumular(int id, int puntaje);
+    }
+
+    private static final class Nodo {
+        // Hijos ordenados por letra para buscarlos con búsqueda binaria
+        char[] letras = SIN_LETRAS;
+        Nodo[] hijos = SIN_HIJOS;
+        int cantidadHijos;
+        // Competidores con una palabra que termina en este nodo
+        int[] ids = SIN_IDS;
+        int cantidadIds;
+        // Nodos e IDs del subárbol (incluido este), lo que cuesta recorrerlo
+        long peso;
+
+        Nodo hijo(char letra) {
+            int i = Arrays.binarySearch(letras, 0, cantidadHijos, letra);
+            return i >= 0 ? hijos[i] : null;
+        }
+
+        Nodo hijoCreando(char letra) {
+            int i = Arrays.binarySearch(letras, 0, cantidadHijos, letra);
+            if (i >= 0) {
+                return hijos[i];
+            }
+            int posicion = -i - 1;
+            if (cantidadHijos == letras.length) {
+                int capacidad = Math.max(2, cantidadHijos * 2);
+                letras = Arrays.copyOf(letras, capacidad);
+                hijos = Arrays.copyOf(hijos, capacidad);
+            }
+            System.arraycopy(letras, posicion, letras, posicion + 1, cantidadHijos - posicion);
+            System.arraycopy(hijos, posicion, hijos, posicion + 1, cantidadHijos - posicion);
+            Nodo nuevo = new Nodo();
+            letras[posicion] = letra;
+            hijos[posicion] = nuevo;
+            cantidadHijos++;
+            return nuevo;
+        }
+
+        void agregarId(int id) {
+            if (cantidadIds == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(2, cantidadIds * 2));
+            }
+            ids[cantidadIds++] = id;
+        }
+
+        boolean quitarId(int id) {
+            for (int i = 0; i < cantidadIds; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--cantidadIds];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.robotech.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuración de caché en memoria (Caffeine)
+ * Categorías y roles casi no cambian durante una temporada, se cachean con tamaño y TTL acotados.
+ * Las escrituras en caché se aplican recién al confirmar la transacción.
+ * Se guardan copias desacopladas de las entidades y listas inmutables, nunca entidades administradas.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIAS = "categorias";
+    public static final String CATEGORIAS_ACTIVAS = "categoriasActivas";
+    public static final String ROLES = "roles";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${robotech.cache.tamanio-maximo:1000}") long tamanioMaximo,
+                                     @Value("${robotech.cache.expiracion:10m}") Duration expiracion) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(CATEGORIAS, CATEGORIAS_ACTIVAS, ROLES);
+        caffeine.setAllowNullValues(false);
+        caffeine.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(tamanioMaximo)
+                .expireAfterWrite(expiracion)
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,46 @@
+package com.robotech.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Cuenta las sentencias SQL que prepara Hibernate en el hilo actual mientras hay un conteo abierto
+ * Las estadísticas de Hibernate son globales; esto permite atribuir las sentencias a cada petición
+ * (ver {@link MetricasSentenciasFilter}). Las consultas con JdbcTemplate no pasan por aquí.
+ */
+@Component
+public class ContadorSentencias implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> conteo = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] actual = conteo.get();
+        if (actual != null) {
+            actual[0]++;
+        }
+        return sql;
+    }
+
+    public void iniciar() {
+        conteo.set(new int[1]);
+    }
+
+    /**
+     * Cierra el conteo del hilo y devuelve las sentencias contadas desde iniciar()
+     */
+    public int terminar() {
+        int[] actual = conteo.get();
+        conteo.remove();
+        return actual != null ? actual[0] : 0;
+    }
+}
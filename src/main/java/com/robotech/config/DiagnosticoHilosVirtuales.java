@@ -0,0 +1,88 @@
+package com.robotech.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Detecta hilos virtuales fijados (pinned) a su carrier, con JFR en streaming
+ * Un hilo virtual que se bloquea dentro de un synchronized (o de código nativo) no libera su carrier:
+ * con pocos carriers unas pocas peticiones así frenan a todas. Cada evento jdk.VirtualThreadPinned que supera
+ * el umbral se registra con el primer método de la aplicación en la pila (el servicio @Transactional
+ * o componente donde ocurrió) y suma a robotech.hilos.virtuales.fijados con ese origen.
+ * Solo se activa con spring.threads.virtual.enabled en Java 21+ (perfil "virtual").
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DiagnosticoHilosVirtuales {
+
+    private static final Logger log = LoggerFactory.getLogger(DiagnosticoHilosVirtuales.class);
+
+    private static final String EVENTO_FIJADO = "jdk.VirtualThreadPinned";
+    private static final String PAQUETE_APLICACION = "com.robotech.";
+    // Frames de la aplicación incluidos en el log
+    private static final int FRAMES_EN_LOG = 5;
+
+    private final RecordingStream stream = new RecordingStream();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${robotech.hilos-virtuales.umbral-fijado:20ms}")
+    private Duration umbral;
+
+    @PostConstruct
+    public void iniciar() {
+        stream.enable(EVENTO_FIJADO).withThreshold(umbral).withStackTrace();
+        stream.onEvent(EVENTO_FIJADO, this::registrar);
+        stream.startAsync();
+        log.info("Diagnóstico de hilos virtuales fijados activo (umbral {})", umbral);
+    }
+
+    @PreDestroy
+    public void detener() {
+        stream.close();
+    }
+
+    private void registrar(RecordedEvent evento) {
+        List<String> frames = framesAplicacion(evento.getStackTrace());
+        String origen = frames.isEmpty() ? "desconocido" : frames.get(0);
+        Counter.builder("robotech.hilos.virtuales.fijados")
+                .description("Hilos virtuales fijados a su carrier más que el umbral")
+                .tag("origen", origen)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Hilo virtual fijado {} ms en {}: {}", evento.getDuration().toMillis(), origen,
+                String.join(" <- ", frames.subList(0, Math.min(FRAMES_EN_LOG, frames.size()))));
+    }
+
+    /**
+     * Métodos de la aplicación en la pila, del más interno al más externo, sin los proxies de Spring
+     */
+    private static List<String> framesAplicacion(RecordedStackTrace pila) {
+        if (pila == null) {
+            return List.of();
+        }
+        return pila.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(metodo -> metodo.startsWith(PAQUETE_APLICACION) && !metodo.contains("$$"))
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.robotech.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado para el login (CU14)
+ * La verificación BCrypt consume ~100 ms de CPU por intento; se ejecuta aquí, con hilos y cola
+ * acotados, para que una ráfaga de logins no deje sin hilos de Tomcat al resto de endpoints.
+ * Si la cola está llena la tarea se rechaza de inmediato (el controlador responde 503).
+ * Métricas: executor.* con name=login (cola, activos) y robotech.login.latencia (cola + verificación).
+ */
+@Component
+public class EjecutorAutenticacion {
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Timer latencia;
+
+    public EjecutorAutenticacion(MeterRegistry meterRegistry,
+                                 @Value("${robotech.login.hilos:0}") int hilos,
+                                 @Value("${robotech.login.cola:64}") int cola) {
+        int tamanio = hilos > 0 ? hilos : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ThreadPoolExecutor(tamanio, tamanio, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cola), new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "login");
+        this.latencia = Timer.builder("robotech.login.latencia")
+                .description("Tiempo desde que el login entra a la cola hasta que termina la verificación")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encola la tarea en el pool de login
+     *
+     * @throws RejectedExecutionException si la cola está llena
+     */
+    public <T> CompletableFuture<T> ejecutar(Supplier<T> tarea) {
+        long inicio = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return tarea.get();
+            } finally {
+                latencia.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,34 @@
+package com.robotech.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Abre por petición la ventana de {@link RuteoLecturaEscritura}: después de una escritura, las lecturas
+ * de la misma petición van a la primaria. Primero de la cadena para cubrir también a los filtros de seguridad.
+ */
+@Component
+@ConditionalOnProperty(prefix = "robotech.replica", name = "url")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LecturaPropiasEscriturasFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RuteoLecturaEscritura.abrirPeticion();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RuteoLecturaEscritura.cerrarPeticion();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.robotech.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publica robotech.http.sentencias: sentencias SQL de Hibernate por petición, con el mismo tag uri
+ * (patrón del endpoint) que http.server.requests para cruzar tiempo de respuesta y carga sobre la base
+ */
+@Component
+public class MetricasSentenciasFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ContadorSentencias contadorSentencias;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        contadorSentencias.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int sentencias = contadorSentencias.terminar();
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("robotech.http.sentencias")
+                    .description("Sentencias SQL de Hibernate por petición")
+                    .tag("uri", patron != null ? patron.toString() : "UNKNOWN")
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(sentencias);
+        }
+    }
+}
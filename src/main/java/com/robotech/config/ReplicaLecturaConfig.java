@@ -0,0 +1,75 @@
+package com.robotech.config;
+
+import com.robotech.config.RuteoLecturaEscritura.Destino;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Réplica de lectura, activa solo con robotech.replica.url
+ * La primaria se configura como siempre (spring.datasource.*, spring.datasource.hikari.*); la réplica con
+ * robotech.replica.url/username/password (por defecto las credenciales de la primaria) y
+ * robotech.replica.hikari.*. Cada una tiene su pool (hikaricp.* con pool=primaria / pool=replica).
+ * El DataSource que usan JPA y JdbcTemplate es el ruteo envuelto en LazyConnectionDataSourceProxy.
+ * Requiere spring.jpa.open-in-view=false: con un EntityManager por petición la primera transacción fijaría
+ * la conexión de todas las siguientes, y las entidades leídas de la réplica quedarían en el contexto de
+ * persistencia que usan las escrituras.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "robotech.replica", name = "url")
+public class ReplicaLecturaConfig {
+
+    private RuteoLecturaEscritura ruteo;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaria(DataSourceProperties propiedades) {
+        HikariDataSource primaria = propiedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primaria.setPoolName("primaria");
+        return primaria;
+    }
+
+    @Bean
+    @ConfigurationProperties("robotech.replica.hikari")
+    public HikariDataSource replica(DataSourceProperties propiedades,
+                                    @Value("${robotech.replica.url}") String url,
+                                    @Value("${robotech.replica.username:}") String usuario,
+                                    @Value("${robotech.replica.password:}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(usuario.isEmpty() ? propiedades.determineUsername() : usuario)
+                .password(password.isEmpty() ? propiedades.determinePassword() : password)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaria, HikariDataSource replica) {
+        ruteo = new RuteoLecturaEscritura();
+        ruteo.setTargetDataSources(Map.of(Destino.Primaria, primaria, Destino.Replica, replica));
+        ruteo.setDefaultTargetDataSource(primaria);
+        ruteo.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(ruteo);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void habilitarReplica() {
+        ruteo.habilitarReplica();
+    }
+}
@@ -0,0 +1,46 @@
+package com.robotech.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Elige la base de cada conexión: las transacciones readOnly van a la réplica, todo lo demás a la primaria
+ * Debe ir detrás de un LazyConnectionDataSourceProxy: la transacción pide la conexión al comenzar, antes de
+ * marcarse readOnly, y el proxy recién la obtiene aquí en la primera sentencia.
+ * Leer lo propio: una petición que ya escribió en la primaria sigue leyendo de la primaria hasta terminar
+ * (la réplica puede no tener aún esas filas). La ventana la abre y cierra {@link LecturaPropiasEscriturasFilter}.
+ * Hasta {@link #habilitarReplica()} todo va a la primaria: los índices en memoria se cargan al arrancar y
+ * las filas que la réplica aún no tuviera no llegarían después por eventos.
+ */
+public class RuteoLecturaEscritura extends AbstractRoutingDataSource {
+
+    public enum Destino { Primaria, Replica }
+
+    private static final ThreadLocal<boolean[]> escribioEnPeticion = new ThreadLocal<>();
+
+    private volatile boolean replicaHabilitada;
+
+    public void habilitarReplica() {
+        replicaHabilitada = true;
+    }
+
+    public static void abrirPeticion() {
+        escribioEnPeticion.set(new boolean[1]);
+    }
+
+    public static void cerrarPeticion() {
+        escribioEnPeticion.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean[] escribio = escribioEnPeticion.get();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return replicaHabilitada && (escribio == null || !escribio[0]) ? Destino.Replica : Destino.Primaria;
+        }
+        if (escribio != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            escribio[0] = true;
+        }
+        return Destino.Primaria;
+    }
+}
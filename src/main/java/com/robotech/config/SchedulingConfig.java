@@ -0,0 +1,12 @@
+package com.robotech.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (@Scheduled)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
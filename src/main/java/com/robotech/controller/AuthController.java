@@ -3,9 +3,15 @@ package com.robotech.controller;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.robotech.config.EjecutorAutenticacion;
 import com.robotech.model.Usuario;
+import com.robotech.security.LimitadorLogin;
+import com.robotech.security.TokenService;
 import com.robotech.service.UsuarioService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/auth")
@@ -22,37 +30,76 @@ public class AuthController {
     @Autowired
     private UsuarioService usuarioService;
 
+    @Autowired
+    private EjecutorAutenticacion ejecutorAutenticacion;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private LimitadorLogin limitadorLogin;
+
+    @Value("${robotech.login.reintentar-en-segundos:1}")
+    private int reintentarEnSegundos;
+
     /**
      * CU14: Login
      * POST /api/auth/login
      * Body: { "correo": "admin@robotech.com", "password": "admin123" }
+     * Devuelve un token firmado para enviar en Authorization: Bearer <token>
+     * Demasiados intentos por IP o por correo responden 429 sin consultar la base de datos
+     * La verificación se ejecuta en el pool de login; si está saturado responde 503 con Retry-After
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> credenciales) {
-        try {
-            String correo = credenciales.get("correo");
-            String password = credenciales.get("password");
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> login(@RequestBody Map<String, String> credenciales,
+                                                                        HttpServletRequest request) {
+        String correo = credenciales.get("correo");
+        String password = credenciales.get("password");
 
-            Optional<Usuario> usuario = usuarioService.autenticar(correo, password);
+        long esperaSegundos = limitadorLogin.verificar(request.getRemoteAddr(), correo);
+        if (esperaSegundos > 0) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Demasiados intentos de inicio de sesión, intente más tarde");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(esperaSegundos))
+                    .body(response));
+        }
 
-            if (usuario.isPresent()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", true);
-                response.put("message", "Login exitoso");
-                response.put("usuario", usuario.get());
-                return ResponseEntity.ok(response);
-            } else {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "Credenciales inválidas");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-            }
-        } catch (Exception e) {
+        try {
+            return ejecutorAutenticacion.ejecutar(() -> usuarioService.autenticar(correo, password))
+                    .thenApply(this::respuestaLogin)
+                    .exceptionally(e -> {
+                        Throwable causa = e.getCause() != null ? e.getCause() : e;
+                        Map<String, Object> response = new HashMap<>();
+                        response.put("success", false);
+                        response.put("message", "Error al iniciar sesión: " + causa.getMessage());
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                    });
+        } catch (RejectedExecutionException e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
-            response.put("message", "Error al iniciar sesión: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            response.put("message", "Servicio de autenticación saturado, intente nuevamente");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(reintentarEnSegundos))
+                    .body(response));
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> respuestaLogin(Optional<Usuario> usuario) {
+        Map<String, Object> response = new HashMap<>();
+        if (usuario.isPresent()) {
+            response.put("success", true);
+            response.put("message", "Login exitoso");
+            response.put("usuario", usuario.get());
+            response.put("token", tokenService.emitir(usuario.get()));
+            response.put("tipoToken", "Bearer");
+            response.put("expiraEn", tokenService.getDuracionSegundos());
+            return ResponseEntity.ok(response);
         }
+        response.put("success", false);
+        response.put("message", "Credenciales inválidas");
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
     /**
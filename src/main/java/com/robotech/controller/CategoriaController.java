@@ -1,12 +1,23 @@
 package com.robotech.controller;
 
+import com.robotech.dto.PaginaCursor;
+import com.robotech.exception.ValidacionException;
 import com.robotech.model.Categoria;
+import com.robotech.service.CacheRespuestas;
 import com.robotech.service.CategoriaService;
+import com.robotech.service.VersionesDatos;
+import com.robotech.service.VersionesDatos.Agregado;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Period;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,82 +30,78 @@ public class CategoriaController {
     @Autowired
     private CategoriaService categoriaService;
 
+    @Autowired
+    private VersionesDatos versionesDatos;
+
+    @Autowired
+    private CacheRespuestas cacheRespuestas;
+
     /**
      * CU07: Crear nueva categoría
      * POST /api/categorias
      */
     @PostMapping
     public ResponseEntity<?> crear(@RequestBody Categoria categoria) {
-        try {
-            Categoria nuevaCategoria = categoriaService.crearCategoria(categoria);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Categoría creada exitosamente");
-            response.put("categoria", nuevaCategoria);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al crear categoría: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Categoria nuevaCategoria = categoriaService.crearCategoria(categoria);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Categoría creada exitosamente");
+        response.put("categoria", nuevaCategoria);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
      * Listar todas las categorías
-     * GET /api/categorias
+     * GET /api/categorias?after={id}&limit={n}
      */
     @GetMapping
-    public ResponseEntity<?> listarTodas() {
-        try {
-            List<Categoria> categorias = categoriaService.listarTodas();
-            return ResponseEntity.ok(categorias);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar categorías: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public ResponseEntity<?> listarTodas(@RequestParam(name = "after", required = false) Integer despuesDe,
+                                         @RequestParam(name = "limit", required = false) Integer limite) {
+        PaginaCursor<Categoria> categorias = categoriaService.listarTodas(despuesDe, limite);
+        return ResponseEntity.ok(categorias);
     }
 
     /**
      * Listar categorías activas
      * GET /api/categorias/activas
+     * Con If-None-Match igual a la versión actual responde 304 sin consultar la base de datos;
+     * si no, responde el JSON ya serializado mientras la versión no cambie
      */
     @GetMapping("/activas")
-    public ResponseEntity<?> listarActivas() {
-        try {
-            List<Categoria> categorias = categoriaService.listarActivas();
-            return ResponseEntity.ok(categorias);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar categorías activas: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    public void listarActivas(WebRequest request, HttpServletResponse httpResponse) throws IOException {
+        String etag = versionesDatos.etag(Agregado.Categorias);
+        // Con 304 checkNotModified ya dejó la respuesta lista
+        if (!request.checkNotModified(etag)) {
+            cacheRespuestas.escribir("categorias.activas", etag, categoriaService::listarActivas, request, httpResponse);
         }
     }
 
+    /**
+     * Categorías activas en las que puede inscribirse un competidor
+     * GET /api/categorias/elegibles?edad=12
+     * GET /api/categorias/elegibles?fechaNacimiento=2013-05-20
+     */
+    @GetMapping("/elegibles")
+    public ResponseEntity<?> listarElegibles(@RequestParam(name = "edad", required = false) Integer edad,
+                                             @RequestParam(name = "fechaNacimiento", required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaNacimiento) {
+        if (edad == null && fechaNacimiento == null) {
+            throw new ValidacionException("Debe indicar la edad o la fecha de nacimiento");
+        }
+        int edadCompetidor = edad != null ? edad : Period.between(fechaNacimiento, LocalDate.now()).getYears();
+        List<Categoria> categorias = categoriaService.listarElegibles(edadCompetidor);
+        return ResponseEntity.ok(categorias);
+    }
+
     /**
      * Buscar categoría por ID
      * GET /api/categorias/{id}
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> buscarPorId(@PathVariable Integer id) {
-        try {
-            return categoriaService.buscarPorId(id)
-                    .map(ResponseEntity::ok)
-                    .orElseGet(() -> ResponseEntity.notFound().build());
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al buscar categoría: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return categoriaService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -103,24 +110,12 @@ public class CategoriaController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> actualizar(@PathVariable Integer id, @RequestBody Categoria categoria) {
-        try {
-            Categoria categoriaActualizada = categoriaService.actualizarCategoria(id, categoria);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Categoría actualizada exitosamente");
-            response.put("categoria", categoriaActualizada);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al actualizar categoría: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Categoria categoriaActualizada = categoriaService.actualizarCategoria(id, categoria);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Categoría actualizada exitosamente");
+        response.put("categoria", categoriaActualizada);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -129,23 +124,11 @@ public class CategoriaController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> eliminar(@PathVariable Integer id) {
-        try {
-            categoriaService.eliminarCategoria(id);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Categoría eliminada exitosamente");
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al eliminar categoría: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        categoriaService.eliminarCategoria(id);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Categoría eliminada exitosamente");
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -155,25 +138,13 @@ public class CategoriaController {
      */
     @PatchMapping("/{id}/estado")
     public ResponseEntity<?> cambiarEstado(@PathVariable Integer id, @RequestBody Map<String, Boolean> body) {
-        try {
-            Boolean activo = body.get("activo");
-            Categoria categoria = categoriaService.cambiarEstado(id, activo);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Estado actualizado exitosamente");
-            response.put("categoria", categoria);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al cambiar estado: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Boolean activo = body.get("activo");
+        Categoria categoria = categoriaService.cambiarEstado(id, activo);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Estado actualizado exitosamente");
+        response.put("categoria", categoria);
+        return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
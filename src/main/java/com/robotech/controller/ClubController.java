@@ -1,15 +1,31 @@
 package com.robotech.controller;
 
+import com.robotech.dto.PaginaCursor;
+import com.robotech.dto.ValidacionClubes;
+import com.robotech.exception.ValidacionException;
 import com.robotech.model.Club;
+import com.robotech.service.CacheRespuestas;
 import com.robotech.service.ClubService;
+import com.robotech.service.VersionesDatos;
+import com.robotech.service.VersionesDatos.Agregado;
+import com.robotech.service.ExportacionService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/clubes")
@@ -19,47 +35,54 @@ public class ClubController {
     @Autowired
     private ClubService clubService;
 
+    @Autowired
+    private ExportacionService exportacionService;
+
+    @Autowired
+    private VersionesDatos versionesDatos;
+
+    @Autowired
+    private CacheRespuestas cacheRespuestas;
+
     /**
      * CU01: Registrar nuevo club
      * POST /api/clubes
      */
     @PostMapping
     public ResponseEntity<?> registrar(@RequestBody Club club) {
-        try {
-            Club nuevoClub = clubService.registrarClub(club);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Club registrado exitosamente con estado Pendiente");
-            response.put("club", nuevoClub);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al registrar club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Club nuevoClub = clubService.registrarClub(club);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Club registrado exitosamente con estado Pendiente");
+        response.put("club", nuevoClub);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
      * Listar todos los clubes
-     * GET /api/clubes
+     * GET /api/clubes?after={id}&limit={n}
      */
     @GetMapping
-    public ResponseEntity<?> listarTodos() {
-        try {
-            List<Club> clubes = clubService.listarTodos();
-            return ResponseEntity.ok(clubes);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar clubes: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public ResponseEntity<?> listarTodos(@RequestParam(name = "after", required = false) Integer despuesDe,
+                                         @RequestParam(name = "limit", required = false) Integer limite) {
+        PaginaCursor<Club> clubes = clubService.listarTodos(despuesDe, limite);
+        return ResponseEntity.ok(clubes);
+    }
+
+    /**
+     * Exportar clubes en streaming
+     * GET /api/clubes/export?formato=ndjson|csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportar(@RequestParam(name = "formato", defaultValue = "ndjson") String formato) {
+        ExportacionService.Formato tipo = ExportacionService.Formato.desde(formato);
+
+        StreamingResponseBody cuerpo = salida -> exportacionService.exportarClubes(salida, tipo);
+        boolean csv = tipo == ExportacionService.Formato.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clubes." + (csv ? "csv" : "ndjson") + "\"")
+                .body(cuerpo);
     }
 
     /**
@@ -68,31 +91,22 @@ public class ClubController {
      */
     @GetMapping("/pendientes")
     public ResponseEntity<?> listarPendientes() {
-        try {
-            List<Club> clubes = clubService.listarPendientes();
-            return ResponseEntity.ok(clubes);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar clubes pendientes: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        List<Club> clubes = clubService.listarPendientes();
+        return ResponseEntity.ok(clubes);
     }
 
     /**
      * Listar clubes activos
      * GET /api/clubes/activos
+     * Con If-None-Match igual a la versión actual responde 304 sin consultar la base de datos;
+     * si no, responde el JSON ya serializado mientras la versión no cambie
      */
     @GetMapping("/activos")
-    public ResponseEntity<?> listarActivos() {
-        try {
-            List<Club> clubes = clubService.listarActivos();
-            return ResponseEntity.ok(clubes);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar clubes activos: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    public void listarActivos(WebRequest request, HttpServletResponse httpResponse) throws IOException {
+        String etag = versionesDatos.etag(Agregado.Clubes);
+        // Con 304 checkNotModified ya dejó la respuesta lista
+        if (!request.checkNotModified(etag)) {
+            cacheRespuestas.escribir("clubes.activos", etag, clubService::listarActivos, request, httpResponse);
         }
     }
 
@@ -102,16 +116,9 @@ public class ClubController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> buscarPorId(@PathVariable Integer id) {
-        try {
-            return clubService.buscarPorId(id)
-                    .map(ResponseEntity::ok)
-                    .orElseGet(() -> ResponseEntity.notFound().build());
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al buscar club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return clubService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -121,26 +128,14 @@ public class ClubController {
      */
     @PutMapping("/{id}/aprobar")
     public ResponseEntity<?> aprobar(@PathVariable Integer id, @RequestBody Map<String, Integer> body) {
-        try {
-            Integer idAdmin = body.get("idAdminValidador");
-            Club club = clubService.aprobarClub(id, idAdmin);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Club aprobado exitosamente");
-            response.put("club", club);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al aprobar club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Integer idAdmin = body.get("idAdminValidador");
+        Club club = clubService.aprobarClub(id, idAdmin);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Club aprobado exitosamente");
+        response.put("club", club);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -150,27 +145,64 @@ public class ClubController {
      */
     @PutMapping("/{id}/rechazar")
     public ResponseEntity<?> rechazar(@PathVariable Integer id, @RequestBody Map<String, Object> body) {
-        try {
-            Integer idAdmin = (Integer) body.get("idAdminValidador");
-            String observaciones = (String) body.get("observaciones");
-            Club club = clubService.rechazarClub(id, idAdmin, observaciones);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Club rechazado");
-            response.put("club", club);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al rechazar club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        Integer idAdmin = (Integer) body.get("idAdminValidador");
+        String observaciones = (String) body.get("observaciones");
+        Club club = clubService.rechazarClub(id, idAdmin, observaciones);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Club rechazado");
+        response.put("club", club);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * CU02: Aprobar clubes en bloque
+     * PUT /api/clubes/aprobar
+     * Body: { "idAdminValidador": 1, "idsClubes": [3, 4, 5] }
+     * Solo cambian los que siguen pendientes; el resto se devuelve en "omitidos"
+     */
+    @PutMapping("/aprobar")
+    public ResponseEntity<?> aprobarLote(@RequestBody ValidacionClubes body) {
+        Set<Integer> ids = idsLote(body);
+        List<Integer> aprobados = clubService.aprobarClubes(ids, body.idAdminValidador());
+        return respuestaLote(ids, aprobados, " clubes aprobados");
+    }
+
+    /**
+     * CU02: Rechazar clubes en bloque
+     * PUT /api/clubes/rechazar
+     * Body: { "idAdminValidador": 1, "idsClubes": [3, 4, 5], "observaciones": "Datos incompletos" }
+     */
+    @PutMapping("/rechazar")
+    public ResponseEntity<?> rechazarLote(@RequestBody ValidacionClubes body) {
+        Set<Integer> ids = idsLote(body);
+        List<Integer> rechazados = clubService.rechazarClubes(ids, body.idAdminValidador(), body.observaciones());
+        return respuestaLote(ids, rechazados, " clubes rechazados");
+    }
+
+    private static Set<Integer> idsLote(ValidacionClubes body) {
+        if (body.idAdminValidador() == null || body.idsClubes() == null) {
+            throw new ValidacionException("Debe indicar idAdminValidador e idsClubes");
         }
+        Set<Integer> ids = new LinkedHashSet<>(body.idsClubes());
+        ids.remove(null);
+        if (ids.size() > ClubService.MAXIMO_VALIDACION_MASIVA) {
+            throw new ValidacionException("El lote supera el máximo de "
+                    + ClubService.MAXIMO_VALIDACION_MASIVA + " clubes");
+        }
+        return ids;
+    }
+
+    private static ResponseEntity<?> respuestaLote(Set<Integer> ids, List<Integer> validados, String mensaje) {
+        Set<Integer> omitidos = new LinkedHashSet<>(ids);
+        validados.forEach(omitidos::remove);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", validados.size() + " de " + ids.size() + mensaje);
+        response.put("idsClubes", validados);
+        response.put("omitidos", omitidos);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -179,24 +211,12 @@ public class ClubController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> actualizar(@PathVariable Integer id, @RequestBody Club club) {
-        try {
-            Club clubActualizado = clubService.actualizarClub(id, club);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Club actualizado exitosamente");
-            response.put("club", clubActualizado);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al actualizar club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Club clubActualizado = clubService.actualizarClub(id, club);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Club actualizado exitosamente");
+        response.put("club", clubActualizado);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -205,22 +225,10 @@ public class ClubController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> eliminar(@PathVariable Integer id) {
-        try {
-            clubService.eliminarClub(id);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Club eliminado exitosamente");
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al eliminar club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        clubService.eliminarClub(id);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Club eliminado exitosamente");
+        return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
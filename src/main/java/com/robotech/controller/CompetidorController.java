@@ -1,12 +1,24 @@
 package com.robotech.controller;
 
+import com.robotech.dto.FichaCompetidor;
+import com.robotech.dto.PaginaCursor;
+import com.robotech.dto.ResultadoInscripcionMasiva;
+import com.robotech.exception.ValidacionException;
 import com.robotech.model.Competidor;
 import com.robotech.service.CompetidorService;
+import com.robotech.service.VersionesDatos;
+import com.robotech.service.VersionesDatos.Agregado;
+import com.robotech.service.ExportacionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,64 +32,87 @@ public class CompetidorController {
     @Autowired
     private CompetidorService competidorService;
 
+    @Autowired
+    private ExportacionService exportacionService;
+
+    @Autowired
+    private VersionesDatos versionesDatos;
+
     /**
      * CU05: Inscribir nuevo competidor
      * POST /api/competidores
      */
     @PostMapping
     public ResponseEntity<?> inscribir(@RequestBody Competidor competidor) {
-        try {
-            Competidor nuevoCompetidor = competidorService.inscribirCompetidor(competidor);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Competidor inscrito exitosamente");
-            response.put("competidor", nuevoCompetidor);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al inscribir competidor: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        Competidor nuevoCompetidor = competidorService.inscribirCompetidor(competidor);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Competidor inscrito exitosamente");
+        response.put("competidor", nuevoCompetidor);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Inscripción masiva de competidores
+     * POST /api/competidores/batch
+     * Body: [ { ...competidor... }, ... ]
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> inscribirLote(@RequestBody List<Competidor> competidores) {
+        if (competidores.size() > CompetidorService.MAXIMO_INSCRIPCION_MASIVA) {
+            throw new ValidacionException("El lote supera el máximo de "
+                    + CompetidorService.MAXIMO_INSCRIPCION_MASIVA + " competidores");
         }
+        ResultadoInscripcionMasiva resultado = competidorService.inscribirCompetidores(competidores);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", resultado.getErrores().isEmpty());
+        response.put("message", resultado.getInscritos() + " de " + resultado.getTotal() + " competidores inscritos");
+        response.put("resultado", resultado);
+        return ResponseEntity.ok(response);
     }
 
     /**
      * Listar todos los competidores
-     * GET /api/competidores
+     * GET /api/competidores?after={id}&limit={n}
      */
     @GetMapping
-    public ResponseEntity<?> listarTodos() {
-        try {
-            List<Competidor> competidores = competidorService.listarTodos();
-            return ResponseEntity.ok(competidores);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar competidores: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public ResponseEntity<?> listarTodos(@RequestParam(name = "after", required = false) Integer despuesDe,
+                                         @RequestParam(name = "limit", required = false) Integer limite) {
+        PaginaCursor<Competidor> competidores = competidorService.listarTodos(despuesDe, limite);
+        return ResponseEntity.ok(competidores);
+    }
+
+    /**
+     * Exportar competidores en streaming
+     * GET /api/competidores/export?formato=ndjson|csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportar(@RequestParam(name = "formato", defaultValue = "ndjson") String formato) {
+        ExportacionService.Formato tipo = ExportacionService.Formato.desde(formato);
+
+        StreamingResponseBody cuerpo = salida -> exportacionService.exportarCompetidores(salida, tipo);
+        boolean csv = tipo == ExportacionService.Formato.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"competidores." + (csv ? "csv" : "ndjson") + "\"")
+                .body(cuerpo);
     }
 
     /**
      * Listar competidores activos
-     * GET /api/competidores/activos
+     * GET /api/competidores/activos?after={id}&limit={n}
+     * Con If-None-Match igual a la versión actual responde 304 sin consultar la base de datos
+     * (la versión incluye clubes y categorías, que van dentro de cada competidor)
      */
     @GetMapping("/activos")
-    public ResponseEntity<?> listarActivos() {
-        try {
-            List<Competidor> competidores = competidorService.listarActivos();
-            return ResponseEntity.ok(competidores);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar competidores activos: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    public ResponseEntity<?> listarActivos(@RequestParam(name = "after", required = false) Integer despuesDe,
+                                           @RequestParam(name = "limit", required = false) Integer limite,
+                                           WebRequest request) {
+        if (request.checkNotModified(versionesDatos.etag(Agregado.Competidores, Agregado.Clubes, Agregado.Categorias))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
         }
+        PaginaCursor<Competidor> competidores = competidorService.listarActivos(despuesDe, limite);
+        return ResponseEntity.ok(competidores);
     }
 
     /**
@@ -86,15 +121,8 @@ public class CompetidorController {
      */
     @GetMapping("/club/{idClub}")
     public ResponseEntity<?> listarPorClub(@PathVariable Integer idClub) {
-        try {
-            List<Competidor> competidores = competidorService.listarPorClub(idClub);
-            return ResponseEntity.ok(competidores);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar competidores del club: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        List<Competidor> competidores = competidorService.listarPorClub(idClub);
+        return ResponseEntity.ok(competidores);
     }
 
     /**
@@ -103,15 +131,22 @@ public class CompetidorController {
      */
     @GetMapping("/categoria/{idCategoria}")
     public ResponseEntity<?> listarPorCategoria(@PathVariable Integer idCategoria) {
-        try {
-            List<Competidor> competidores = competidorService.listarPorCategoria(idCategoria);
-            return ResponseEntity.ok(competidores);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar competidores de la categoría: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        List<Competidor> competidores = competidorService.listarPorCategoria(idCategoria);
+        return ResponseEntity.ok(competidores);
+    }
+
+    /**
+     * Buscar competidores por nombre, apellido, DNI o nombre del robot
+     * GET /api/competidores/buscar?q=juan per&limit={n}
+     */
+    @GetMapping("/buscar")
+    public ResponseEntity<?> buscar(@RequestParam(name = "q", required = false) String texto,
+                                    @RequestParam(name = "limit", required = false) Integer limite) {
+        if (texto == null || texto.isBlank()) {
+            throw new ValidacionException("Debe indicar el texto a buscar");
         }
+        List<FichaCompetidor> competidores = competidorService.buscar(texto, limite);
+        return ResponseEntity.ok(competidores);
     }
 
     /**
@@ -120,16 +155,9 @@ public class CompetidorController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> buscarPorId(@PathVariable Integer id) {
-        try {
-            return competidorService.buscarPorId(id)
-                    .map(ResponseEntity::ok)
-                    .orElseGet(() -> ResponseEntity.notFound().build());
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al buscar competidor: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return competidorService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -138,24 +166,12 @@ public class CompetidorController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> actualizar(@PathVariable Integer id, @RequestBody Competidor competidor) {
-        try {
-            Competidor competidorActualizado = competidorService.actualizarCompetidor(id, competidor);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Competidor actualizado exitosamente");
-            response.put("competidor", competidorActualizado);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al actualizar competidor: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Competidor competidorActualizado = competidorService.actualizarCompetidor(id, competidor);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Competidor actualizado exitosamente");
+        response.put("competidor", competidorActualizado);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -165,26 +181,14 @@ public class CompetidorController {
      */
     @PatchMapping("/{id}/estado")
     public ResponseEntity<?> cambiarEstado(@PathVariable Integer id, @RequestBody Map<String, Boolean> body) {
-        try {
-            Boolean activo = body.get("activo");
-            Competidor competidor = competidorService.cambiarEstado(id, activo);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Estado actualizado exitosamente");
-            response.put("competidor", competidor);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al cambiar estado: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Boolean activo = body.get("activo");
+        Competidor competidor = competidorService.cambiarEstado(id, activo);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Estado actualizado exitosamente");
+        response.put("competidor", competidor);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -193,22 +197,10 @@ public class CompetidorController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> eliminar(@PathVariable Integer id) {
-        try {
-            competidorService.eliminarCompetidor(id);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Competidor eliminado exitosamente");
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al eliminar competidor: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        competidorService.eliminarCompetidor(id);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Competidor eliminado exitosamente");
+        return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
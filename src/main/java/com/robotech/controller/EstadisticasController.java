@@ -0,0 +1,62 @@
+package com.robotech.controller;
+
+import com.robotech.model.ConteoCompetidores;
+import com.robotech.model.ConteoCompetidores.Ambito;
+import com.robotech.service.EstadisticasService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/stats")
+@CrossOrigin(origins = "*")
+public class EstadisticasController {
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    /**
+     * Competidores (total y activos) de todos los clubes
+     * GET /api/stats/clubes
+     */
+    @GetMapping("/clubes")
+    public ResponseEntity<?> listarClubes() {
+        return listar(Ambito.Club);
+    }
+
+    /**
+     * Competidores (total y activos) de un club
+     * GET /api/stats/clubes/{idClub}
+     */
+    @GetMapping("/clubes/{idClub}")
+    public ResponseEntity<?> conteoClub(@PathVariable Integer idClub) {
+        ConteoCompetidores conteo = estadisticasService.conteoClub(idClub);
+        return ResponseEntity.ok(conteo);
+    }
+
+    /**
+     * Competidores (total y activos) de todas las categorías
+     * GET /api/stats/categorias
+     */
+    @GetMapping("/categorias")
+    public ResponseEntity<?> listarCategorias() {
+        return listar(Ambito.Categoria);
+    }
+
+    /**
+     * Competidores (total y activos) de una categoría
+     * GET /api/stats/categorias/{idCategoria}
+     */
+    @GetMapping("/categorias/{idCategoria}")
+    public ResponseEntity<?> conteoCategoria(@PathVariable Integer idCategoria) {
+        ConteoCompetidores conteo = estadisticasService.conteoCategoria(idCategoria);
+        return ResponseEntity.ok(conteo);
+    }
+
+    private ResponseEntity<?> listar(Ambito ambito) {
+        List<ConteoCompetidores> conteos = estadisticasService.listarConteos(ambito);
+        return ResponseEntity.ok(conteos);
+    }
+}
@@ -0,0 +1,108 @@
+package com.robotech.controller;
+
+import com.robotech.dto.RespuestaError;
+import com.robotech.exception.ConflictoException;
+import com.robotech.exception.DominioException;
+import com.robotech.exception.NoEncontradoException;
+import com.robotech.exception.ValidacionException;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+import com.robotech.model.Usuario;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Convierte las excepciones de los controladores en respuestas { "success": false, "message": ... }
+ * Errores de dominio: NoEncontrado 404, Conflicto 409, Validacion 400, con el mensaje de la excepción.
+ * Las excepciones propias de Spring MVC (JSON mal formado, parámetro inválido, método no soportado...)
+ * mantienen el estado que les da Spring. Cualquier otra es un 500 y se registra con su pila.
+ * Una restricción UNIQUE violada (dos altas simultáneas que pasaron el pre-chequeo) es un 409 con el
+ * mismo mensaje que daría la validación del servicio.
+ */
+@RestControllerAdvice
+public class ManejadorErrores extends ResponseEntityExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ManejadorErrores.class);
+
+    private static final Map<String, String> MENSAJES_RESTRICCIONES = Map.of(
+            Club.UK_NOMBRE, "Ya existe un club con ese nombre",
+            Club.UK_CORREO_REPRESENTANTE, "El correo del representante ya está registrado",
+            Usuario.UK_CORREO, "El correo electrónico ya está registrado",
+            Usuario.UK_TELEFONO, "El teléfono ya está registrado",
+            Competidor.UK_DOCUMENTO, "Ya existe un competidor con ese DNI");
+
+    @ExceptionHandler(NoEncontradoException.class)
+    public ResponseEntity<RespuestaError> noEncontrado(NoEncontradoException e) {
+        return responder(HttpStatus.NOT_FOUND, e);
+    }
+
+    @ExceptionHandler(ConflictoException.class)
+    public ResponseEntity<RespuestaError> conflicto(ConflictoException e) {
+        return responder(HttpStatus.CONFLICT, e);
+    }
+
+    @ExceptionHandler(ValidacionException.class)
+    public ResponseEntity<RespuestaError> validacion(ValidacionException e) {
+        return responder(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<RespuestaError> integridad(DataIntegrityViolationException e) {
+        String detalle = detalleRestriccion(e);
+        for (Map.Entry<String, String> restriccion : MENSAJES_RESTRICCIONES.entrySet()) {
+            if (detalle.contains(restriccion.getKey())) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(RespuestaError.de(restriccion.getValue()));
+            }
+        }
+        log.warn("Violación de integridad: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(RespuestaError.de("La operación viola una restricción de integridad de los datos"));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<RespuestaError> inesperado(Exception e, HttpServletRequest request) {
+        log.error("Error no controlado en {} {}", request.getMethod(), request.getRequestURI(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(RespuestaError.de("Error interno del servidor"));
+    }
+
+    @Override
+    protected ResponseEntity<Object> createResponseEntity(Object body, HttpHeaders headers,
+                                                          HttpStatusCode statusCode, WebRequest request) {
+        String mensaje = body instanceof ProblemDetail detalle && detalle.getDetail() != null
+                ? detalle.getDetail()
+                : statusCode.toString();
+        return new ResponseEntity<>(RespuestaError.de(mensaje), headers, statusCode);
+    }
+
+    /**
+     * Nombre de la restricción si Hibernate lo extrajo, si no el mensaje del driver (JdbcTemplate), en minúsculas
+     */
+    private static String detalleRestriccion(DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion && violacion.getConstraintName() != null) {
+                return violacion.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+    }
+
+    private static ResponseEntity<RespuestaError> responder(HttpStatus estado, DominioException e) {
+        return ResponseEntity.status(estado).body(RespuestaError.de(e.getMessage()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.robotech.controller;
+
+import com.robotech.dto.PosicionRanking;
+import com.robotech.service.RankingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/ranking")
+@CrossOrigin(origins = "*")
+public class RankingController {
+
+    @Autowired
+    private RankingService rankingService;
+
+    /**
+     * Clasificación de una categoría
+     * GET /api/ranking/categoria/{idCategoria}?desde={posicion}&limit={n}
+     */
+    @GetMapping("/categoria/{idCategoria}")
+    public ResponseEntity<?> clasificacionCategoria(@PathVariable Integer idCategoria,
+                                                    @RequestParam(name = "desde", required = false) Integer desde,
+                                                    @RequestParam(name = "limit", required = false) Integer limite) {
+        List<PosicionRanking> clasificacion = rankingService.clasificacionCategoria(idCategoria, desde, limite);
+        return ResponseEntity.ok(clasificacion);
+    }
+
+    /**
+     * Clasificación de un club
+     * GET /api/ranking/club/{idClub}?desde={posicion}&limit={n}
+     */
+    @GetMapping("/club/{idClub}")
+    public ResponseEntity<?> clasificacionClub(@PathVariable Integer idClub,
+                                               @RequestParam(name = "desde", required = false) Integer desde,
+                                               @RequestParam(name = "limit", required = false) Integer limite) {
+        List<PosicionRanking> clasificacion = rankingService.clasificacionClub(idClub, desde, limite);
+        return ResponseEntity.ok(clasificacion);
+    }
+
+    /**
+     * Posición de un competidor en su categoría y en su club
+     * GET /api/ranking/competidor/{idCompetidor}
+     */
+    @GetMapping("/competidor/{idCompetidor}")
+    public ResponseEntity<?> posicionCompetidor(@PathVariable Integer idCompetidor) {
+        return rankingService.posicionCompetidor(idCompetidor)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Ranking en vivo de una categoría (Server-Sent Events)
+     * GET /api/ranking/categoria/{idCategoria}/stream
+     * Eventos: "clasificacion" al conectar y "cambios" con los competidores que cambiaron y el top actual
+     */
+    @GetMapping(value = "/categoria/{idCategoria}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCategoria(@PathVariable Integer idCategoria) {
+        return rankingService.suscribirCategoria(idCategoria)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Ranking en vivo de un club (Server-Sent Events)
+     * GET /api/ranking/club/{idClub}/stream
+     */
+    @GetMapping(value = "/club/{idClub}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamClub(@PathVariable Integer idClub) {
+        return rankingService.suscribirClub(idClub)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
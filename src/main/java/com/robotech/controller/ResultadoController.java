@@ -0,0 +1,67 @@
+package com.robotech.controller;
+
+import com.robotech.exception.ValidacionException;
+import com.robotech.ingesta.IngestaResultados;
+import com.robotech.model.Resultado;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/resultados")
+@CrossOrigin(origins = "*")
+public class ResultadoController {
+
+    @Autowired
+    private IngestaResultados ingestaResultados;
+
+    @Value("${robotech.resultados.reintentar-en-segundos:1}")
+    private int reintentarEnSegundos;
+
+    /**
+     * Registrar resultado de un competidor en una ronda
+     * POST /api/resultados
+     * Body: { "idCompetidor": 1, "idEnfrentamiento": 10, "puntos": 3 }
+     * Responde 201 solo cuando el resultado ya está guardado; si la cola de ingesta está llena responde 429
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> registrar(@RequestBody Resultado resultado) {
+        if (resultado.getIdCompetidor() == null || resultado.getPuntos() == null) {
+            throw new ValidacionException("Debe indicar idCompetidor y puntos");
+        }
+        resultado.setIdResultado(null);
+
+        CompletableFuture<Resultado> confirmacion = ingestaResultados.registrar(resultado);
+        if (confirmacion == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Demasiados resultados en espera, intente nuevamente");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(reintentarEnSegundos))
+                    .body(response));
+        }
+
+        return confirmacion
+                .thenApply(guardado -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Resultado registrado exitosamente");
+                    response.put("resultado", guardado);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                })
+                .exceptionally(e -> {
+                    Throwable causa = e.getCause() != null ? e.getCause() : e;
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", false);
+                    response.put("message", "Error al registrar resultado: " + causa.getMessage());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                });
+    }
+}
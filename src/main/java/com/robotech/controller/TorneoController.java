@@ -0,0 +1,115 @@
+package com.robotech.controller;
+
+import com.robotech.dto.PaginaCursor;
+import com.robotech.exception.ValidacionException;
+import com.robotech.model.Enfrentamiento;
+import com.robotech.model.Torneo;
+import com.robotech.service.TorneoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/torneos")
+@CrossOrigin(origins = "*")
+public class TorneoController {
+
+    @Autowired
+    private TorneoService torneoService;
+
+    /**
+     * Generar torneo de una categoría
+     * POST /api/torneos
+     * Body: { "idCategoria": 1, "nombre": "Sumo 2025", "formato": "EliminacionSimple|EliminacionDoble|Suizo" }
+     */
+    @PostMapping
+    public ResponseEntity<?> generar(@RequestBody Map<String, Object> body) {
+        Integer idCategoria = (Integer) body.get("idCategoria");
+        String nombre = (String) body.get("nombre");
+        String formato = (String) body.get("formato");
+        Torneo torneo = torneoService.generarTorneo(idCategoria, nombre, formato != null ? formato(formato) : null);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Torneo generado exitosamente");
+        response.put("torneo", torneo);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    private static Torneo.FormatoTorneo formato(String valor) {
+        try {
+            return Torneo.FormatoTorneo.valueOf(valor);
+        } catch (IllegalArgumentException e) {
+            throw new ValidacionException("Formato de torneo no soportado: " + valor);
+        }
+    }
+
+    /**
+     * Buscar torneo por ID
+     * GET /api/torneos/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> buscarPorId(@PathVariable Integer id) {
+        return torneoService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Listar torneos de una categoría
+     * GET /api/torneos/categoria/{idCategoria}
+     */
+    @GetMapping("/categoria/{idCategoria}")
+    public ResponseEntity<?> listarPorCategoria(@PathVariable Integer idCategoria) {
+        List<Torneo> torneos = torneoService.listarPorCategoria(idCategoria);
+        return ResponseEntity.ok(torneos);
+    }
+
+    /**
+     * Listar enfrentamientos de un torneo
+     * GET /api/torneos/{id}/enfrentamientos?after={numero}&limit={n}
+     */
+    @GetMapping("/{id}/enfrentamientos")
+    public ResponseEntity<?> listarEnfrentamientos(@PathVariable Integer id,
+                                                   @RequestParam(name = "after", required = false) Integer despuesDe,
+                                                   @RequestParam(name = "limit", required = false) Integer limite) {
+        PaginaCursor<Enfrentamiento> enfrentamientos = torneoService.listarEnfrentamientos(id, despuesDe, limite);
+        return ResponseEntity.ok(enfrentamientos);
+    }
+
+    /**
+     * Emparejar la siguiente ronda de un torneo suizo
+     * POST /api/torneos/{id}/rondas
+     */
+    @PostMapping("/{id}/rondas")
+    public ResponseEntity<?> siguienteRonda(@PathVariable Integer id) {
+        List<Enfrentamiento> enfrentamientos = torneoService.generarSiguienteRondaSuiza(id);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Ronda generada exitosamente");
+        response.put("enfrentamientos", enfrentamientos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Registrar el ganador de un enfrentamiento
+     * PUT /api/torneos/{id}/enfrentamientos/{numero}/ganador
+     * Body: { "idGanador": 5 }
+     */
+    @PutMapping("/{id}/enfrentamientos/{numero}/ganador")
+    public ResponseEntity<?> registrarGanador(@PathVariable Integer id, @PathVariable Integer numero,
+                                              @RequestBody Map<String, Object> body) {
+        Integer idGanador = (Integer) body.get("idGanador");
+        Enfrentamiento enfrentamiento = torneoService.registrarGanador(id, numero, idGanador);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Resultado registrado exitosamente");
+        response.put("enfrentamiento", enfrentamiento);
+        return ResponseEntity.ok(response);
+    }
+}
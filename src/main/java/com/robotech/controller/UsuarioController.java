@@ -1,5 +1,6 @@
 package com.robotech.controller;
 
+import com.robotech.dto.PaginaCursor;
 import com.robotech.model.Usuario;
 import com.robotech.service.UsuarioService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,19 +22,13 @@ public class UsuarioController {
 
     /**
      * Listar todos los usuarios
-     * GET /api/usuarios
+     * GET /api/usuarios?after={id}&limit={n}
      */
     @GetMapping
-    public ResponseEntity<?> listarTodos() {
-        try {
-            List<Usuario> usuarios = usuarioService.listarTodos();
-            return ResponseEntity.ok(usuarios);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar usuarios: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+    public ResponseEntity<?> listarTodos(@RequestParam(name = "after", required = false) Integer despuesDe,
+                                         @RequestParam(name = "limit", required = false) Integer limite) {
+        PaginaCursor<Usuario> usuarios = usuarioService.listarTodos(despuesDe, limite);
+        return ResponseEntity.ok(usuarios);
     }
 
     /**
@@ -42,15 +37,8 @@ public class UsuarioController {
      */
     @GetMapping("/activos")
     public ResponseEntity<?> listarActivos() {
-        try {
-            List<Usuario> usuarios = usuarioService.listarActivos();
-            return ResponseEntity.ok(usuarios);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al listar usuarios activos: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        List<Usuario> usuarios = usuarioService.listarActivos();
+        return ResponseEntity.ok(usuarios);
     }
 
     /**
@@ -59,16 +47,9 @@ public class UsuarioController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> buscarPorId(@PathVariable Integer id) {
-        try {
-            return usuarioService.buscarPorId(id)
-                    .map(ResponseEntity::ok)
-                    .orElseGet(() -> ResponseEntity.notFound().build());
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al buscar usuario: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return usuarioService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -78,26 +59,14 @@ public class UsuarioController {
      */
     @PutMapping("/{id}/rol")
     public ResponseEntity<?> actualizarRol(@PathVariable Integer id, @RequestBody Map<String, Integer> body) {
-        try {
-            Integer idRol = body.get("idRol");
-            Usuario usuario = usuarioService.actualizarRol(id, idRol);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Rol actualizado exitosamente");
-            response.put("usuario", usuario);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al actualizar rol: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Integer idRol = body.get("idRol");
+        Usuario usuario = usuarioService.actualizarRol(id, idRol);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Rol actualizado exitosamente");
+        response.put("usuario", usuario);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -106,30 +75,12 @@ public class UsuarioController {
      */
     @PostMapping
     public ResponseEntity<?> crear(@RequestBody Usuario usuario) {
-        try {
-            Usuario nuevoUsuario = usuarioService.crearUsuario(usuario);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Usuario creado exitosamente");
-            response.put("usuario", nuevoUsuario);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            
-            // Si el error es por duplicado, usar código 409 (CONFLICT)
-            if (e.getMessage().contains("ya está registrado")) {
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
-            }
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al crear usuario: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Usuario nuevoUsuario = usuarioService.crearUsuario(usuario);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Usuario creado exitosamente");
+        response.put("usuario", nuevoUsuario);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
@@ -139,25 +90,13 @@ public class UsuarioController {
      */
     @PatchMapping("/{id}/estado")
     public ResponseEntity<?> cambiarEstado(@PathVariable Integer id, @RequestBody Map<String, Boolean> body) {
-        try {
-            Boolean activo = body.get("activo");
-            Usuario usuario = usuarioService.cambiarEstado(id, activo);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Estado actualizado exitosamente");
-            response.put("usuario", usuario);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Error al cambiar estado: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        Boolean activo = body.get("activo");
+        Usuario usuario = usuarioService.cambiarEstado(id, activo);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Estado actualizado exitosamente");
+        response.put("usuario", usuario);
+        return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.robotech.dto;
+
+import com.robotech.model.Competidor;
+
+/**
+ * Datos de un competidor que se indexan para la búsqueda y se devuelven como resultado
+ */
+public record FichaCompetidor(Integer idCompetidor, String nombre, String apellido, String documentoIdentidad,
+                              String nombreRobot, Integer idClub, Integer idCategoria, Boolean activo) {
+
+    public static FichaCompetidor de(Competidor competidor) {
+        return new FichaCompetidor(competidor.getIdCompetidor(), competidor.getNombre(), competidor.getApellido(),
+                competidor.getDocumentoIdentidad(), competidor.getNombreRobot(),
+                competidor.getClub().getIdClub(), competidor.getCategoria().getIdCategoria(), competidor.getActivo());
+    }
+}
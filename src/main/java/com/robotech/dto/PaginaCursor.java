@@ -0,0 +1,57 @@
+package com.robotech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados con paginación por cursor (keyset)
+ * El cursor es el último ID devuelto; se envía como ?after=<id> para obtener la siguiente página
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaCursor<T> {
+
+    public static final int LIMITE_POR_DEFECTO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private List<T> contenido;
+
+    // null cuando no hay más resultados
+    private Integer siguienteCursor;
+
+    private int limite;
+
+    /**
+     * Aplica el límite por defecto y el máximo permitido por el servidor
+     */
+    public static int normalizarLimite(Integer limite) {
+        if (limite == null || limite <= 0) {
+            return LIMITE_POR_DEFECTO;
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    /**
+     * Cursor inicial cuando no se envía ?after
+     */
+    public static int cursorInicial(Integer despuesDe) {
+        return despuesDe != null ? despuesDe : 0;
+    }
+
+    /**
+     * Construye la página a partir de las filas consultadas con limite + 1,
+     * la fila extra solo indica que existe una página siguiente
+     */
+    public static <T> PaginaCursor<T> de(List<T> filas, int limite, Function<T, Integer> id) {
+        if (filas.size() <= limite) {
+            return new PaginaCursor<>(filas, null, limite);
+        }
+        List<T> contenido = filas.subList(0, limite);
+        return new PaginaCursor<>(contenido, id.apply(contenido.get(limite - 1)), limite);
+    }
+}
@@ -0,0 +1,7 @@
+package com.robotech.dto;
+
+/**
+ * Competidor inscrito en una llave, con lo mínimo que necesita el generador
+ */
+public record Participante(Integer idCompetidor, Integer idClub) {
+}
@@ -0,0 +1,7 @@
+package com.robotech.dto;
+
+/**
+ * Posición de un competidor en una clasificación (la primera posición es 1)
+ */
+public record PosicionRanking(Integer idCompetidor, long puntos, int posicion) {
+}
@@ -0,0 +1,11 @@
+package com.robotech.dto;
+
+/**
+ * Cuerpo de las respuestas de error: { "success": false, "message": "..." }
+ */
+public record RespuestaError(boolean success, String message) {
+
+    public static RespuestaError de(String mensaje) {
+        return new RespuestaError(false, mensaje);
+    }
+}
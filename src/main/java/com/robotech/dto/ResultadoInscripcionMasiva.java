@@ -0,0 +1,38 @@
+package com.robotech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de la inscripción masiva: competidores inscritos y errores por fila
+ */
+@Data
+@NoArgsConstructor
+public class ResultadoInscripcionMasiva {
+
+    private int total;
+    private List<Integer> idsInscritos = new ArrayList<>();
+    private List<ErrorFila> errores = new ArrayList<>();
+
+    public int getInscritos() {
+        return idsInscritos.size();
+    }
+
+    public void agregarError(int fila, String documentoIdentidad, String mensaje) {
+        errores.add(new ErrorFila(fila, documentoIdentidad, mensaje));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErrorFila {
+        // Posición del competidor en la lista enviada (desde 0)
+        private int fila;
+        private String documentoIdentidad;
+        private String mensaje;
+    }
+}
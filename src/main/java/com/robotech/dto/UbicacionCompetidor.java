@@ -0,0 +1,7 @@
+package com.robotech.dto;
+
+/**
+ * Club y categoría de un competidor, las clasificaciones en las que participa
+ */
+public record UbicacionCompetidor(Integer idCompetidor, Integer idClub, Integer idCategoria) {
+}
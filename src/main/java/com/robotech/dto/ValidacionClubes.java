@@ -0,0 +1,11 @@
+package com.robotech.dto;
+
+import java.util.List;
+
+/**
+ * Cuerpo de la aprobación / rechazo en bloque de clubes
+ *
+ * @param observaciones solo al rechazar; se guarda igual en todos los clubes
+ */
+public record ValidacionClubes(Integer idAdminValidador, List<Integer> idsClubes, String observaciones) {
+}
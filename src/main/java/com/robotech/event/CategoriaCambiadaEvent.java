@@ -0,0 +1,12 @@
+package com.robotech.event;
+
+import com.robotech.model.Categoria;
+
+/**
+ * Una categoría se creó, modificó, activó/desactivó o eliminó
+ * Se publica dentro de la transacción; los índices en memoria la aplican después del commit.
+ *
+ * @param categoria estado final de la categoría, null si se eliminó
+ */
+public record CategoriaCambiadaEvent(Integer idCategoria, Categoria categoria) {
+}
@@ -0,0 +1,12 @@
+package com.robotech.event;
+
+import com.robotech.model.Club;
+
+/**
+ * Un club se registró, modificó, aprobó/rechazó o eliminó
+ * Se publica dentro de la transacción; quienes lo escuchan lo aplican después del commit.
+ *
+ * @param club estado final del club, null si se eliminó
+ */
+public record ClubCambiadoEvent(Integer idClub, Club club) {
+}
@@ -0,0 +1,12 @@
+package com.robotech.event;
+
+import com.robotech.model.Club;
+
+import java.util.List;
+
+/**
+ * Clubes pendientes aprobados o rechazados en bloque, con un solo UPDATE
+ * No lleva las entidades: el UPDATE no pasa por el contexto de persistencia.
+ */
+public record ClubesValidadosEvent(List<Integer> idsClubes, Club.EstadoClub estado) {
+}
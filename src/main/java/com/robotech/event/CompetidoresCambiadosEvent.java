@@ -0,0 +1,20 @@
+package com.robotech.event;
+
+import com.robotech.dto.FichaCompetidor;
+
+import java.util.List;
+
+/**
+ * Competidores inscritos, modificados o eliminados en una transacción
+ * Lleva una copia de los datos tomada al publicarse; los índices en memoria la aplican después del commit.
+ */
+public record CompetidoresCambiadosEvent(List<FichaCompetidor> guardados, List<Integer> eliminados) {
+
+    public static CompetidoresCambiadosEvent guardados(List<FichaCompetidor> guardados) {
+        return new CompetidoresCambiadosEvent(guardados, List.of());
+    }
+
+    public static CompetidoresCambiadosEvent eliminado(Integer idCompetidor) {
+        return new CompetidoresCambiadosEvent(List.of(), List.of(idCompetidor));
+    }
+}
@@ -0,0 +1,8 @@
+package com.robotech.event;
+
+/**
+ * Cambió el rol o el estado de un usuario
+ * Se publica dentro de la transacción; sus tokens se revocan después del commit (RevocacionTokens).
+ */
+public record UsuarioCambiadoEvent(Integer idUsuario) {
+}
@@ -0,0 +1,11 @@
+package com.robotech.exception;
+
+/**
+ * La operación choca con el estado actual: un dato único ya registrado o un estado que no la permite (409)
+ */
+public class ConflictoException extends DominioException {
+
+    public ConflictoException(String mensaje) {
+        super(mensaje);
+    }
+}
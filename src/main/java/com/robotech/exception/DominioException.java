@@ -0,0 +1,13 @@
+package com.robotech.exception;
+
+/**
+ * Error de negocio que se responde al cliente con su mensaje (ver ManejadorErrores)
+ * No captura la pila: el mensaje ya dice qué falló y llenar el stack trace es la parte cara
+ * de lanzar una excepción, que aquí ocurre con cada petición inválida.
+ */
+public abstract class DominioException extends RuntimeException {
+
+    protected DominioException(String mensaje) {
+        super(mensaje, null, false, false);
+    }
+}
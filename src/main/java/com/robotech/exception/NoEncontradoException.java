@@ -0,0 +1,11 @@
+package com.robotech.exception;
+
+/**
+ * El recurso indicado no existe (404)
+ */
+public class NoEncontradoException extends DominioException {
+
+    public NoEncontradoException(String mensaje) {
+        super(mensaje);
+    }
+}
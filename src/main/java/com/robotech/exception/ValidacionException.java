@@ -0,0 +1,11 @@
+package com.robotech.exception;
+
+/**
+ * Los datos enviados no son válidos (400)
+ */
+public class ValidacionException extends DominioException {
+
+    public ValidacionException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -0,0 +1,97 @@
+package com.robotech.ingesta;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cola circular acotada sin locks (algoritmo de D. Vyukov)
+ * Cada celda lleva un número de secuencia que indica si está libre para el productor de esa vuelta
+ * o lista para el consumidor; productores y consumidores solo compiten con un CAS sobre su posición.
+ * Admite varios productores y varios consumidores; ofrecer no bloquea y falla si la cola está llena.
+ */
+public final class AnilloAcotado<T> {
+
+    private final int mascara;
+    private final AtomicLongArray secuencias;
+    private final AtomicReferenceArray<T> elementos;
+    private final AtomicLong escritura = new AtomicLong();
+    private final AtomicLong lectura = new AtomicLong();
+
+    /**
+     * @param capacidad potencia de 2
+     */
+    public AnilloAcotado(int capacidad) {
+        if (capacidad < 2 || Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de 2");
+        }
+        this.mascara = capacidad - 1;
+        this.secuencias = new AtomicLongArray(capacidad);
+        this.elementos = new AtomicReferenceArray<>(capacidad);
+        for (int i = 0; i < capacidad; i++) {
+            secuencias.set(i, i);
+        }
+    }
+
+    /**
+     * @return false si la cola está llena
+     */
+    public boolean ofrecer(T elemento) {
+        long posicion = escritura.get();
+        int indice;
+        while (true) {
+            indice = (int) posicion & mascara;
+            long diferencia = secuencias.getAcquire(indice) - posicion;
+            if (diferencia == 0) {
+                if (escritura.compareAndSet(posicion, posicion + 1)) {
+                    break;
+                }
+                posicion = escritura.get();
+            } else if (diferencia < 0) {
+                return false;
+            } else {
+                posicion = escritura.get();
+            }
+        }
+        elementos.setPlain(indice, elemento);
+        secuencias.setRelease(indice, posicion + 1);
+        return true;
+    }
+
+    /**
+     * @return el elemento más antiguo o null si la cola está vacía
+     */
+    public T tomar() {
+        long posicion = lectura.get();
+        int indice;
+        while (true) {
+            indice = (int) posicion & mascara;
+            long diferencia = secuencias.getAcquire(indice) - (posicion + 1);
+            if (diferencia == 0) {
+                if (lectura.compareAndSet(posicion, posicion + 1)) {
+                    break;
+                }
+                posicion = lectura.get();
+            } else if (diferencia < 0) {
+                return null;
+            } else {
+                posicion = lectura.get();
+            }
+        }
+        T elemento = elementos.getPlain(indice);
+        elementos.setPlain(indice, null);
+        secuencias.setRelease(indice, posicion + mascara + 1);
+        return elemento;
+    }
+
+    /**
+     * Elementos en la cola (aproximado si hay operaciones en curso)
+     */
+    public int tamanio() {
+        return (int) Math.max(0, escritura.get() - lectura.get());
+    }
+
+    public int capacidad() {
+        return mascara + 1;
+    }
+}
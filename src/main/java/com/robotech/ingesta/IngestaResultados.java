@@ -0,0 +1,271 @@
+package com.robotech.ingesta;
+
+import com.robotech.exception.ValidacionException;
+import com.robotech.model.Resultado;
+import com.robotech.service.RankingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.VarHandle;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ingesta de resultados con group commit
+ * Las peticiones dejan el resultado en un anillo acotado sin locks y esperan su confirmación.
+ * Un único hilo escritor toma todo lo acumulado (hasta tamanioLote), lo inserta con JDBC batch
+ * en una sola transacción y recién después del commit completa las confirmaciones y suma los
+ * puntos al ranking. Con carga alta los lotes crecen solos: mientras se confirma uno se llena el siguiente.
+ * Si un lote falla se reintenta fila por fila para que un resultado inválido no rechace a los demás.
+ * Al detenerse, el escritor termina recién cuando ningún productor quedó a mitad de encolar:
+ * todo resultado aceptado se escribe.
+ * Sin trabajo el escritor duerme sin límite de tiempo: lo despierta el productor que encola o el último
+ * que deja de ofrecer durante la detención.
+ */
+@Component
+public class IngestaResultados {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestaResultados.class);
+
+    private static final String INSERT_RESULTADO =
+            "INSERT INTO resultado (id_competidor, id_enfrentamiento, puntos, fecha_registro) VALUES (?, ?, ?, ?)";
+
+    private final AnilloAcotado<Pendiente> anillo;
+    private final int tamanioLote;
+    private final int puntosMaximo;
+    private final Thread escritor;
+    private volatile boolean activo = true;
+    private volatile boolean esperando;
+    // Productores entre la lectura de "activo" y el fin de su ofrecer
+    private final AtomicInteger ofreciendo = new AtomicInteger();
+
+    private final Counter rechazados;
+    private final DistributionSummary lotes;
+    private final Timer commits;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RankingService rankingService;
+
+    private TransactionTemplate transaccion;
+
+    public IngestaResultados(MeterRegistry meterRegistry,
+                             @Value("${robotech.resultados.capacidad:8192}") int capacidad,
+                             @Value("${robotech.resultados.tamanio-lote:1000}") int tamanioLote,
+                             @Value("${robotech.resultados.puntos-maximo:1000}") int puntosMaximo) {
+        this.anillo = new AnilloAcotado<>(capacidad);
+        this.tamanioLote = tamanioLote;
+        this.puntosMaximo = puntosMaximo;
+        this.escritor = new Thread(this::escribir, "resultados-escritor");
+        Gauge.builder("robotech.resultados.cola", anillo, AnilloAcotado::tamanio)
+                .description("Resultados esperando ser escritos")
+                .register(meterRegistry);
+        this.rechazados = Counter.builder("robotech.resultados.rechazados")
+                .description("Resultados rechazados con 429 por cola llena")
+                .register(meterRegistry);
+        this.lotes = DistributionSummary.builder("robotech.resultados.lote")
+                .description("Resultados confirmados por commit")
+                .register(meterRegistry);
+        this.commits = Timer.builder("robotech.resultados.commit")
+                .description("Duración de la inserción y commit de un lote")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        transaccion = new TransactionTemplate(transactionManager);
+        escritor.start();
+    }
+
+    /**
+     * Encola un resultado
+     *
+     * @return confirmación que se completa después del commit (con el ID asignado),
+     * o null si la cola está llena
+     */
+    public CompletableFuture<Resultado> registrar(Resultado resultado) {
+        if (resultado.getPuntos() < 0 || resultado.getPuntos() > puntosMaximo) {
+            throw new ValidacionException("Los puntos deben estar entre 0 y " + puntosMaximo);
+        }
+        if (!rankingService.existeCompetidor(resultado.getIdCompetidor())) {
+            throw new ValidacionException("Competidor no encontrado");
+        }
+
+        Pendiente pendiente = new Pendiente(resultado, new CompletableFuture<>());
+        boolean aceptado;
+        ofreciendo.incrementAndGet();
+        try {
+            aceptado = activo && anillo.ofrecer(pendiente);
+        } finally {
+            ofreciendo.decrementAndGet();
+        }
+        // También si se rechazó: durante la detención el escritor espera a que nadie esté ofreciendo
+        // La barrera ordena el encolado antes de leer "esperando" (la contraparte está en dormir())
+        VarHandle.fullFence();
+        if (esperando) {
+            LockSupport.unpark(escritor);
+        }
+        if (!aceptado) {
+            rechazados.increment();
+            return null;
+        }
+        return pendiente.confirmacion;
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        // Deja de aceptar y espera a que el escritor vacíe el anillo (incluido lo que aún se esté encolando)
+        activo = false;
+        LockSupport.unpark(escritor);
+        escritor.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void escribir() {
+        List<Pendiente> lote = new ArrayList<>(tamanioLote);
+        while (true) {
+            Pendiente pendiente = anillo.tomar();
+            if (pendiente == null) {
+                if (activo || ofreciendo.get() > 0) {
+                    dormir();
+                    continue;
+                }
+                // Un productor que no se contó ya leerá activo en false: solo queda lo que esté en el anillo
+                pendiente = anillo.tomar();
+                if (pendiente == null) {
+                    return;
+                }
+            }
+
+            lote.add(pendiente);
+            while (lote.size() < tamanioLote && (pendiente = anillo.tomar()) != null) {
+                lote.add(pendiente);
+            }
+            try {
+                confirmar(lote);
+            } catch (RuntimeException e) {
+                // No debería ocurrir (confirmar maneja sus errores), pero el escritor no puede morir
+                log.error("Error inesperado al escribir resultados", e);
+                lote.forEach(p -> p.confirmacion.completeExceptionally(e));
+            }
+            lote.clear();
+        }
+    }
+
+    private void dormir() {
+        esperando = true;
+        // Publicar "esperando" antes de volver a mirar: el productor que no lo vio en true ya dejó visible
+        // su resultado (o su salida de ofreciendo) y se ve aquí; el que lo vio en true hace unpark
+        VarHandle.fullFence();
+        if (anillo.tamanio() == 0 && (activo || ofreciendo.get() > 0)) {
+            LockSupport.park(this);
+        }
+        esperando = false;
+    }
+
+    private void confirmar(List<Pendiente> lote) {
+        long inicio = System.nanoTime();
+        try {
+            insertar(lote);
+            commits.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            lotes.record(lote.size());
+            completar(lote);
+        } catch (RuntimeException e) {
+            log.warn("Falló el lote de {} resultados, se reintenta fila por fila: {}", lote.size(), e.getMessage());
+            List<Pendiente> confirmados = new ArrayList<>(lote.size());
+            for (Pendiente pendiente : lote) {
+                try {
+                    insertar(List.of(pendiente));
+                    confirmados.add(pendiente);
+                } catch (RuntimeException errorFila) {
+                    pendiente.confirmacion.completeExceptionally(errorFila);
+                }
+            }
+            completar(confirmados);
+        }
+    }
+
+    private void insertar(List<Pendiente> lote) {
+        transaccion.executeWithoutResult(estado -> jdbcTemplate.execute((ConnectionCallback<Void>) conexion -> {
+            LocalDateTime ahora = LocalDateTime.now();
+            try (PreparedStatement ps = conexion.prepareStatement(INSERT_RESULTADO, Statement.RETURN_GENERATED_KEYS)) {
+                for (Pendiente pendiente : lote) {
+                    Resultado resultado = pendiente.resultado;
+                    ps.setInt(1, resultado.getIdCompetidor());
+                    if (resultado.getIdEnfrentamiento() != null) {
+                        ps.setInt(2, resultado.getIdEnfrentamiento());
+                    } else {
+                        ps.setNull(2, Types.INTEGER);
+                    }
+                    ps.setInt(3, resultado.getPuntos());
+                    ps.setTimestamp(4, Timestamp.valueOf(ahora));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet claves = ps.getGeneratedKeys()) {
+                    for (Pendiente pendiente : lote) {
+                        if (!claves.next()) {
+                            break;
+                        }
+                        pendiente.resultado.setIdResultado(claves.getInt(1));
+                        pendiente.resultado.setFechaRegistro(ahora);
+                    }
+                }
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Ya confirmado en la base: responde a los clientes y actualiza el ranking
+     */
+    private void completar(List<Pendiente> confirmados) {
+        if (confirmados.isEmpty()) {
+            return;
+        }
+        Map<Integer, Long> puntos = new HashMap<>();
+        for (Pendiente pendiente : confirmados) {
+            puntos.merge(pendiente.resultado.getIdCompetidor(), (long) pendiente.resultado.getPuntos(), Long::sum);
+            pendiente.confirmacion.complete(pendiente.resultado);
+        }
+        try {
+            rankingService.sumarPuntos(puntos);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo actualizar el ranking con {} competidores", puntos.size(), e);
+        }
+    }
+
+    private record Pendiente(Resultado resultado, CompletableFuture<Resultado> confirmacion) {
+    }
+}
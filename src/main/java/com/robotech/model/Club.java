@@ -9,18 +9,25 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
-@Table(name = "club")
+@Table(name = "club", uniqueConstraints = {
+        @UniqueConstraint(name = Club.UK_NOMBRE, columnNames = "nombre_club"),
+        @UniqueConstraint(name = Club.UK_CORREO_REPRESENTANTE, columnNames = "correo_representante")
+}, indexes = @Index(name = "idx_club_estado", columnList = "estado"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Club {
 
+    // Restricciones UNIQUE: ManejadorErrores las traduce a 409 con su mensaje
+    public static final String UK_NOMBRE = "uk_club_nombre";
+    public static final String UK_CORREO_REPRESENTANTE = "uk_club_correo_representante";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id_club")
     private Integer idClub;
 
-    @Column(name = "nombre_club", nullable = false, unique = true, length = 150)
+    @Column(name = "nombre_club", nullable = false, length = 150)
     private String nombreClub;
 
     @Column(name = "representante", nullable = false, length = 150)
@@ -1,5 +1,6 @@
 package com.robotech.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,12 +9,35 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "competidor")
+@Table(name = "competidor",
+        uniqueConstraints = @UniqueConstraint(name = Competidor.UK_DOCUMENTO, columnNames = "documento_identidad"),
+        indexes = {
+                @Index(name = "idx_competidor_club_activo", columnList = "id_club, activo"),
+                @Index(name = "idx_competidor_categoria_activo", columnList = "id_categoria, activo"),
+                @Index(name = "idx_competidor_activo", columnList = "activo, id_competidor")
+        })
+@NamedEntityGraph(
+        name = Competidor.GRAFO_DETALLE,
+        attributeNodes = {
+                @NamedAttributeNode(value = "club", subgraph = "club"),
+                @NamedAttributeNode("categoria")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "club", attributeNodes = @NamedAttributeNode(value = "usuarioValidador", subgraph = "usuarioValidador")),
+                @NamedSubgraph(name = "usuarioValidador", attributeNodes = @NamedAttributeNode("rol"))
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Competidor {
 
+    // Club (con su validador) y categoría: todo lo que se serializa en la respuesta
+    public static final String GRAFO_DETALLE = "Competidor.detalle";
+
+    // Restricción UNIQUE del DNI: ManejadorErrores la traduce a 409
+    public static final String UK_DOCUMENTO = "uk_competidor_documento";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id_competidor")
@@ -40,12 +64,14 @@ public class Competidor {
     @Column(name = "telefono", length = 15)
     private String telefono;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_club", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Club club;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_categoria", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Categoria categoria;
 
     @Column(name = "nombre_robot", length = 100)
@@ -0,0 +1,47 @@
+package com.robotech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+
+/**
+ * Cantidad de competidores (total y activos) de un club o de una categoría
+ * Se mantiene al inscribir, cambiar de estado y eliminar competidores, en la misma transacción.
+ */
+@Entity
+@Table(name = "conteo_competidores")
+@IdClass(ConteoCompetidores.Clave.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConteoCompetidores {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ambito", length = 20)
+    private Ambito ambito;
+
+    @Id
+    @Column(name = "id_ambito")
+    private Integer idAmbito;
+
+    @Column(name = "total", nullable = false)
+    private Long total = 0L;
+
+    @Column(name = "activos", nullable = false)
+    private Long activos = 0L;
+
+    public enum Ambito {
+        Club, Categoria
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Clave implements Serializable {
+        private Ambito ambito;
+        private Integer idAmbito;
+    }
+}
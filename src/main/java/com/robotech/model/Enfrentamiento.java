@@ -0,0 +1,77 @@
+package com.robotech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Enfrentamiento de una llave
+ * Torneo y competidores se guardan como IDs: las llaves se insertan por JDBC batch
+ * (cientos de miles de filas) y se listan sin cargar los competidores.
+ * siguienteGanador/siguientePerdedor apuntan al número del enfrentamiento destino dentro del torneo.
+ */
+@Entity
+@Table(name = "enfrentamiento",
+        uniqueConstraints = @UniqueConstraint(name = "uk_enfrentamiento_torneo_numero", columnNames = {"id_torneo", "numero"}),
+        indexes = @Index(name = "idx_enfrentamiento_torneo_ronda", columnList = "id_torneo, ronda"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Enfrentamiento {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_enfrentamiento")
+    private Integer idEnfrentamiento;
+
+    @Column(name = "id_torneo", nullable = false)
+    private Integer idTorneo;
+
+    @Column(name = "numero", nullable = false)
+    private Integer numero;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "llave", nullable = false)
+    private Llave llave;
+
+    @Column(name = "ronda", nullable = false)
+    private Integer ronda;
+
+    @Column(name = "posicion", nullable = false)
+    private Integer posicion;
+
+    @Column(name = "id_competidor_a")
+    private Integer idCompetidorA;
+
+    @Column(name = "id_competidor_b")
+    private Integer idCompetidorB;
+
+    @Column(name = "id_ganador")
+    private Integer idGanador;
+
+    @Column(name = "siguiente_ganador")
+    private Integer siguienteGanador;
+
+    @Column(name = "siguiente_perdedor")
+    private Integer siguientePerdedor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false)
+    private EstadoEnfrentamiento estado = EstadoEnfrentamiento.Pendiente;
+
+    public enum Llave {
+        Principal,
+        Perdedores,
+        GranFinal
+    }
+
+    /**
+     * Bye: solo puede llegar un competidor (o ninguno), quien llegue avanza sin jugar
+     */
+    public enum EstadoEnfrentamiento {
+        Pendiente,
+        Bye,
+        Finalizado
+    }
+}
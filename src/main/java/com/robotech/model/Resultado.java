@@ -0,0 +1,41 @@
+package com.robotech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de un competidor en una ronda, registrado por el árbitro
+ * Competidor y enfrentamiento se guardan como IDs: las filas se insertan por JDBC batch desde la ingesta.
+ */
+@Entity
+@Table(name = "resultado", indexes = @Index(name = "idx_resultado_competidor", columnList = "id_competidor"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Resultado {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_resultado")
+    private Integer idResultado;
+
+    @Column(name = "id_competidor", nullable = false)
+    private Integer idCompetidor;
+
+    @Column(name = "id_enfrentamiento")
+    private Integer idEnfrentamiento;
+
+    @Column(name = "puntos", nullable = false)
+    private Integer puntos;
+
+    @Column(name = "fecha_registro", nullable = false, updatable = false)
+    private LocalDateTime fechaRegistro;
+
+    @PrePersist
+    protected void onCreate() {
+        fechaRegistro = LocalDateTime.now();
+    }
+}
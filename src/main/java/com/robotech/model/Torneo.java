@@ -0,0 +1,74 @@
+package com.robotech.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "torneo", indexes = @Index(name = "idx_torneo_categoria", columnList = "id_categoria"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Torneo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_torneo")
+    private Integer idTorneo;
+
+    @Column(name = "nombre", nullable = false, length = 150)
+    private String nombre;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_categoria", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    private Categoria categoria;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "formato", nullable = false)
+    private FormatoTorneo formato;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false)
+    private EstadoTorneo estado = EstadoTorneo.Generado;
+
+    @Column(name = "participantes", nullable = false)
+    private Integer participantes;
+
+    // Rondas totales de la llave principal (en suizo, rondas previstas)
+    @Column(name = "rondas", nullable = false)
+    private Integer rondas;
+
+    // Solo suizo: última ronda emparejada
+    @Column(name = "ronda_actual", nullable = false)
+    private Integer rondaActual = 1;
+
+    @Column(name = "fecha_creacion", nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @PrePersist
+    protected void onCreate() {
+        fechaCreacion = LocalDateTime.now();
+        if (estado == null) {
+            estado = EstadoTorneo.Generado;
+        }
+        if (rondaActual == null) {
+            rondaActual = 1;
+        }
+    }
+
+    public enum FormatoTorneo {
+        EliminacionSimple,
+        EliminacionDoble,
+        Suizo
+    }
+
+    public enum EstadoTorneo {
+        Generado,
+        EnCurso,
+        Finalizado
+    }
+}
@@ -5,21 +5,29 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 @Entity
-@Table(name = "usuario")
+@Table(name = "usuario", uniqueConstraints = {
+        @UniqueConstraint(name = Usuario.UK_CORREO, columnNames = "correo"),
+        @UniqueConstraint(name = Usuario.UK_TELEFONO, columnNames = "telefono")
+}, indexes = @Index(name = "idx_usuario_rol", columnList = "id_rol"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Usuario {
 
+    // Restricciones UNIQUE: ManejadorErrores las traduce a 409 con su mensaje
+    public static final String UK_CORREO = "uk_usuario_correo";
+    public static final String UK_TELEFONO = "uk_usuario_telefono";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id_usuario")
     private Integer idUsuario;
 
-    @Column(name = "correo", nullable = false, unique = true, length = 100)
+    @Column(name = "correo", nullable = false, length = 100)
     private String correo;
 
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
@@ -35,8 +43,9 @@ public class Usuario {
     @Column(name = "telefono", length = 15)
     private String telefono;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_rol", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Rol rol;
 
     @Column(name = "activo", nullable = false)
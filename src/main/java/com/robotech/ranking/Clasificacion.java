@@ -0,0 +1,83 @@
+package com.robotech.ranking;
+
+import com.robotech.dto.PosicionRanking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Clasificación en memoria de una categoría o un club
+ * Todas las operaciones son O(log n) (las páginas, O(log n + k)).
+ */
+public class Clasificacion {
+
+    private final ListaSaltosIndexada lista = new ListaSaltosIndexada();
+    private final Map<Integer, Long> puntosPorCompetidor = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Suma puntos al competidor (lo agrega con 0 si no estaba) y devuelve su nueva posición
+     */
+    public PosicionRanking sumar(Integer idCompetidor, long puntos) {
+        lock.writeLock().lock();
+        try {
+            Long anteriores = puntosPorCompetidor.get(idCompetidor);
+            long total = puntos;
+            if (anteriores != null) {
+                lista.eliminar(anteriores, idCompetidor);
+                total += anteriores;
+            }
+            puntosPorCompetidor.put(idCompetidor, total);
+            return new PosicionRanking(idCompetidor, total, lista.insertar(total, idCompetidor));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<PosicionRanking> posicion(Integer idCompetidor) {
+        lock.readLock().lock();
+        try {
+            Long puntos = puntosPorCompetidor.get(idCompetidor);
+            if (puntos == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new PosicionRanking(idCompetidor, puntos, lista.posicion(puntos, idCompetidor)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Página de la clasificación
+     *
+     * @param desde posición inicial (desde 1)
+     */
+    public List<PosicionRanking> pagina(int desde, int cantidad) {
+        lock.readLock().lock();
+        try {
+            List<ListaSaltosIndexada.Nodo> nodos = lista.desde(desde, cantidad);
+            List<PosicionRanking> pagina = new ArrayList<>(nodos.size());
+            for (int i = 0; i < nodos.size(); i++) {
+                ListaSaltosIndexada.Nodo nodo = nodos.get(i);
+                pagina.add(new PosicionRanking(nodo.id, nodo.puntos, desde + i));
+            }
+            return pagina;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tamanio() {
+        lock.readLock().lock();
+        try {
+            return lista.tamanio();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
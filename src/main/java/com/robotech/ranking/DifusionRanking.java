@@ -0,0 +1,283 @@
+package com.robotech.ranking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.robotech.dto.PosicionRanking;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envío de cambios del ranking por SSE
+ * Los suscriptores son SseEmitter (peticiones asíncronas), ningún hilo queda asociado a una conexión.
+ * Los cambios se acumulan por canal (una vez por competidor) y cada intervalo se serializan una sola vez
+ * por canal y se envían a todos sus suscriptores, junto con el top actualizado.
+ * Las tareas programadas solo encolan: cada conexión tiene su cola de eventos y un pool dedicado
+ * (ranking-sse-*) la vacía, con a lo sumo un envío en curso por conexión. Un cliente que no lee bloquea
+ * solo su propio envío; si acumula más de pendientesMaximo eventos se descarta y, al reconectarse,
+ * recibe la clasificación completa. Métricas: executor.* con name=ranking-sse.
+ */
+@Component
+public class DifusionRanking {
+
+    private static final Logger log = LoggerFactory.getLogger(DifusionRanking.class);
+
+    public static final String CATEGORIA = "categoria";
+    public static final String CLUB = "club";
+
+    private final Map<Canal, Set<Suscriptor>> suscriptores = new ConcurrentHashMap<>();
+    private final Map<Canal, Pendientes> pendientes = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${robotech.ranking.top:10}")
+    private int top;
+
+    @Value("${robotech.ranking.sse-timeout:30m}")
+    private Duration timeout;
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService envios;
+    private final int pendientesMaximo;
+
+    public DifusionRanking(MeterRegistry meterRegistry,
+                           @Value("${robotech.ranking.hilos-envio:4}") int hilos,
+                           @Value("${robotech.ranking.pendientes-por-conexion:20}") int pendientesMaximo) {
+        // Cola sin tope: cada conexión tiene a lo sumo una tarea encolada
+        this.pool = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("ranking-sse-"));
+        this.envios = ExecutorServiceMetrics.monitor(meterRegistry, pool, "ranking-sse");
+        this.pendientesMaximo = pendientesMaximo;
+        Gauge.builder("robotech.ranking.suscriptores", suscriptores,
+                        mapa -> mapa.values().stream().mapToInt(Set::size).sum())
+                .description("Conexiones SSE abiertas al ranking")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre una suscripción al canal y envía la clasificación actual como primer evento
+     */
+    public SseEmitter suscribir(Canal canal, Clasificacion clasificacion) {
+        Suscriptor suscriptor = new Suscriptor(new SseEmitter(timeout.toMillis()));
+        try {
+            // Primero en su cola: ningún cambio llega antes que la clasificación
+            String inicial = objectMapper.writeValueAsString(evento(canal, List.of(), clasificacion.pagina(1, top)));
+            encolar(canal, suscriptor, SseEmitter.event().name("clasificacion").data(inicial));
+        } catch (JsonProcessingException e) {
+            suscriptor.emitter.completeWithError(e);
+            return suscriptor.emitter;
+        }
+        // compute y quitar bloquean la misma entrada: no se agrega a un conjunto que se está descartando
+        suscriptores.compute(canal, (c, conexiones) -> {
+            Set<Suscriptor> actuales = conexiones != null ? conexiones : ConcurrentHashMap.newKeySet();
+            actuales.add(suscriptor);
+            return actuales;
+        });
+        suscriptor.emitter.onCompletion(() -> quitar(canal, suscriptor));
+        suscriptor.emitter.onTimeout(() -> quitar(canal, suscriptor));
+        suscriptor.emitter.onError(error -> quitar(canal, suscriptor));
+        return suscriptor.emitter;
+    }
+
+    /**
+     * Quita una conexión; el canal se descarta con la última para no retener canales sin suscriptores
+     */
+    private void quitar(Canal canal, Suscriptor suscriptor) {
+        suscriptores.computeIfPresent(canal, (c, conexiones) -> {
+            conexiones.remove(suscriptor);
+            return conexiones.isEmpty() ? null : conexiones;
+        });
+    }
+
+    /**
+     * Registra un cambio para el siguiente envío; varios cambios del mismo competidor se envían una sola vez
+     */
+    public void publicar(Canal canal, Clasificacion clasificacion, PosicionRanking cambio) {
+        if (!suscriptores.containsKey(canal)) {
+            return;
+        }
+        // compute y remove bloquean la misma entrada: un cambio entra al lote que se envía o al siguiente
+        pendientes.compute(canal, (c, lote) -> {
+            Pendientes actual = lote != null ? lote : new Pendientes(clasificacion);
+            actual.cambios.add(cambio.idCompetidor());
+            return actual;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${robotech.ranking.intervalo-ms:250}")
+    public void enviar() {
+        for (Canal canal : new ArrayList<>(pendientes.keySet())) {
+            Pendientes lote = pendientes.remove(canal);
+            Set<Suscriptor> conexiones = suscriptores.get(canal);
+            if (lote == null || conexiones == null || conexiones.isEmpty()) {
+                continue;
+            }
+            // Posiciones vigentes al momento del envío, no las de cada cambio acumulado
+            List<PosicionRanking> cambios = new ArrayList<>(lote.cambios.size());
+            for (Integer idCompetidor : lote.cambios) {
+                lote.clasificacion.posicion(idCompetidor).ifPresent(cambios::add);
+            }
+            String datos;
+            try {
+                datos = objectMapper.writeValueAsString(evento(canal, cambios, lote.clasificacion.pagina(1, top)));
+            } catch (JsonProcessingException e) {
+                log.warn("No se pudo serializar el ranking de {} {}", canal.tipo(), canal.id(), e);
+                continue;
+            }
+            for (Suscriptor suscriptor : conexiones) {
+                encolar(canal, suscriptor, SseEmitter.event().name("cambios").data(datos));
+            }
+        }
+    }
+
+    /**
+     * Comentario periódico para que proxies y balanceadores no cierren las conexiones inactivas
+     */
+    @Scheduled(fixedRateString = "${robotech.ranking.latido-ms:15000}")
+    public void latido() {
+        for (Map.Entry<Canal, Set<Suscriptor>> entrada : suscriptores.entrySet()) {
+            for (Suscriptor suscriptor : entrada.getValue()) {
+                encolar(entrada.getKey(), suscriptor, SseEmitter.event().comment("latido"));
+            }
+        }
+    }
+
+    /**
+     * Cierra las conexiones al iniciar el apagado, antes de que el servidor espere a las peticiones activas
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void cerrar() {
+        suscriptores.forEach((canal, conexiones) -> conexiones.forEach(suscriptor -> descartar(canal, suscriptor)));
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Deja el evento en la cola de la conexión y programa su envío si no hay uno en curso
+     */
+    private void encolar(Canal canal, Suscriptor suscriptor, SseEmitter.SseEventBuilder evento) {
+        if (suscriptor.pendientes.incrementAndGet() > pendientesMaximo) {
+            log.debug("Conexión SSE de {} {} descartada: no lee los eventos", canal.tipo(), canal.id());
+            descartar(canal, suscriptor);
+            return;
+        }
+        suscriptor.eventos.add(evento);
+        programar(canal, suscriptor);
+    }
+
+    /**
+     * Deja de enviarle eventos; el emitter se completa desde su envío, que puede estar bloqueado en el socket
+     */
+    private void descartar(Canal canal, Suscriptor suscriptor) {
+        quitar(canal, suscriptor);
+        suscriptor.descartado = true;
+        programar(canal, suscriptor);
+    }
+
+    private void programar(Canal canal, Suscriptor suscriptor) {
+        if (suscriptor.programado.compareAndSet(false, true)) {
+            try {
+                envios.execute(() -> vaciar(canal, suscriptor));
+            } catch (RejectedExecutionException e) {
+                // Apagado en curso
+                suscriptor.programado.set(false);
+            }
+        }
+    }
+
+    private void vaciar(Canal canal, Suscriptor suscriptor) {
+        do {
+            SseEmitter.SseEventBuilder evento;
+            while (!suscriptor.descartado && (evento = suscriptor.eventos.poll()) != null) {
+                suscriptor.pendientes.decrementAndGet();
+                try {
+                    suscriptor.emitter.send(evento);
+                } catch (IOException | IllegalStateException e) {
+                    // Cliente desconectado
+                    quitar(canal, suscriptor);
+                    suscriptor.descartado = true;
+                }
+            }
+            if (suscriptor.descartado) {
+                suscriptor.eventos.clear();
+                suscriptor.emitter.complete();
+                return;
+            }
+            suscriptor.programado.set(false);
+            // Un evento encolado después del último poll pero antes de liberar programado
+        } while (!suscriptor.eventos.isEmpty() && suscriptor.programado.compareAndSet(false, true));
+    }
+
+    private static Map<String, Object> evento(Canal canal, List<PosicionRanking> cambios, List<PosicionRanking> top) {
+        Map<String, Object> evento = new HashMap<>();
+        evento.put("tipo", canal.tipo());
+        evento.put("id", canal.id());
+        evento.put("cambios", cambios);
+        evento.put("top", top);
+        return evento;
+    }
+
+    public record Canal(String tipo, Integer id) {
+    }
+
+    /**
+     * Una conexión con su cola de eventos; programado indica que hay una tarea de envío en el pool
+     */
+    private static final class Suscriptor {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> eventos = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendientes = new AtomicInteger();
+        private final AtomicBoolean programado = new AtomicBoolean();
+        private volatile boolean descartado;
+
+        private Suscriptor(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class Pendientes {
+
+        private final Clasificacion clasificacion;
+        private final Set<Integer> cambios = new LinkedHashSet<>();
+
+        private Pendientes(Clasificacion clasificacion) {
+            this.clasificacion = clasificacion;
+        }
+    }
+}
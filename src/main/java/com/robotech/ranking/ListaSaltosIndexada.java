@@ -0,0 +1,159 @@
+package com.robotech.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Skip list indexable ordenada por puntos (descendente) y luego por ID de competidor
+ * Cada enlace guarda cuántas posiciones salta, así insertar, eliminar, obtener la posición
+ * de un competidor y acceder a la k-ésima posición son O(log n) esperado.
+ * No es thread-safe: la sincronización está en {@link Clasificacion}.
+ */
+final class ListaSaltosIndexada {
+
+    private static final int NIVEL_MAXIMO = 32;
+
+    private final Nodo cabeza = new Nodo(Long.MAX_VALUE, Integer.MIN_VALUE, NIVEL_MAXIMO);
+    private int nivel = 1;
+    private int tamanio;
+
+    int tamanio() {
+        return tamanio;
+    }
+
+    /**
+     * @return posición (desde 1) en la que quedó el elemento
+     */
+    int insertar(long puntos, int id) {
+        Nodo[] previos = new Nodo[NIVEL_MAXIMO];
+        int[] posiciones = new int[NIVEL_MAXIMO];
+        Nodo x = cabeza;
+        int posicion = 0;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.siguiente[i] != null && precede(x.siguiente[i], puntos, id)) {
+                posicion += x.ancho[i];
+                x = x.siguiente[i];
+            }
+            previos[i] = x;
+            posiciones[i] = posicion;
+        }
+
+        int nivelNodo = nivelAleatorio();
+        if (nivelNodo > nivel) {
+            for (int i = nivel; i < nivelNodo; i++) {
+                previos[i] = cabeza;
+                posiciones[i] = 0;
+                cabeza.ancho[i] = tamanio + 1;
+            }
+            nivel = nivelNodo;
+        }
+
+        Nodo nuevo = new Nodo(puntos, id, nivelNodo);
+        for (int i = 0; i < nivelNodo; i++) {
+            int saltados = posiciones[0] - posiciones[i];
+            nuevo.siguiente[i] = previos[i].siguiente[i];
+            previos[i].siguiente[i] = nuevo;
+            nuevo.ancho[i] = previos[i].ancho[i] - saltados;
+            previos[i].ancho[i] = saltados + 1;
+        }
+        for (int i = nivelNodo; i < nivel; i++) {
+            previos[i].ancho[i]++;
+        }
+        tamanio++;
+        return posiciones[0] + 1;
+    }
+
+    boolean eliminar(long puntos, int id) {
+        Nodo[] previos = new Nodo[NIVEL_MAXIMO];
+        Nodo x = cabeza;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.siguiente[i] != null && precede(x.siguiente[i], puntos, id)) {
+                x = x.siguiente[i];
+            }
+            previos[i] = x;
+        }
+        Nodo objetivo = x.siguiente[0];
+        if (objetivo == null || objetivo.puntos != puntos || objetivo.id != id) {
+            return false;
+        }
+
+        for (int i = 0; i < nivel; i++) {
+            if (previos[i].siguiente[i] == objetivo) {
+                previos[i].ancho[i] += objetivo.ancho[i] - 1;
+                previos[i].siguiente[i] = objetivo.siguiente[i];
+            } else {
+                previos[i].ancho[i]--;
+            }
+        }
+        while (nivel > 1 && cabeza.siguiente[nivel - 1] == null) {
+            nivel--;
+        }
+        tamanio--;
+        return true;
+    }
+
+    /**
+     * @return posición (desde 1) o 0 si no está
+     */
+    int posicion(long puntos, int id) {
+        Nodo x = cabeza;
+        int posicion = 0;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.siguiente[i] != null && precede(x.siguiente[i], puntos, id)) {
+                posicion += x.ancho[i];
+                x = x.siguiente[i];
+            }
+        }
+        Nodo candidato = x.siguiente[0];
+        return candidato != null && candidato.puntos == puntos && candidato.id == id ? posicion + 1 : 0;
+    }
+
+    /**
+     * Elementos desde la posición indicada (desde 1), a lo sumo cantidad
+     */
+    List<Nodo> desde(int posicion, int cantidad) {
+        List<Nodo> resultado = new ArrayList<>(Math.min(cantidad, Math.max(0, tamanio - posicion + 1)));
+        if (posicion < 1 || posicion > tamanio) {
+            return resultado;
+        }
+        Nodo x = cabeza;
+        int actual = 0;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.siguiente[i] != null && actual + x.ancho[i] <= posicion) {
+                actual += x.ancho[i];
+                x = x.siguiente[i];
+            }
+        }
+        while (x != null && resultado.size() < cantidad) {
+            resultado.add(x);
+            x = x.siguiente[0];
+        }
+        return resultado;
+    }
+
+    // Orden del ranking: más puntos primero, a igual puntaje el ID menor
+    private static boolean precede(Nodo nodo, long puntos, int id) {
+        return nodo.puntos > puntos || (nodo.puntos == puntos && nodo.id < id);
+    }
+
+    private static int nivelAleatorio() {
+        // Probabilidad 1/2 de subir cada nivel
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (NIVEL_MAXIMO - 1))) + 1;
+    }
+
+    static final class Nodo {
+
+        final long puntos;
+        final int id;
+        final Nodo[] siguiente;
+        final int[] ancho;
+
+        private Nodo(long puntos, int id, int niveles) {
+            this.puntos = puntos;
+            this.id = id;
+            this.siguiente = new Nodo[niveles];
+            this.ancho = new int[niveles];
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.robotech.repository;
 
 import com.robotech.model.Categoria;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -11,4 +12,7 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Integer> {
     List<Categoria> findByActivoTrue();
     boolean existsByNombreCategoria(String nombreCategoria);
     Optional<Categoria> findByNombreCategoria(String nombreCategoria);
+
+    // Paginación keyset: siguiente página a partir del último ID devuelto
+    List<Categoria> findByIdCategoriaGreaterThanOrderByIdCategoriaAsc(Integer idCategoria, Limit limit);
 }
\ No newline at end of file
@@ -1,13 +1,67 @@
 package com.robotech.repository;
 
 import com.robotech.model.Club;
+import com.robotech.model.Usuario;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, Integer> {
+    @EntityGraph(attributePaths = {"usuarioValidador", "usuarioValidador.rol"})
+    Optional<Club> findById(Integer idClub);
+
+    @EntityGraph(attributePaths = {"usuarioValidador", "usuarioValidador.rol"})
     List<Club> findByEstado(Club.EstadoClub estado);
+
+    // Validación en bloque: bloquea los que siguen pendientes, que son exactamente los que cambiará el UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.idClub FROM Club c WHERE c.idClub IN :ids AND c.estado = com.robotech.model.Club.EstadoClub.Pendiente")
+    List<Integer> bloquearPendientes(@Param("ids") Collection<Integer> idsClubes);
+
+    @Modifying
+    @Query("UPDATE Club c SET c.estado = com.robotech.model.Club.EstadoClub.Activo, c.fechaValidacion = :fecha, "
+            + "c.usuarioValidador = :admin WHERE c.idClub IN :ids AND c.estado = com.robotech.model.Club.EstadoClub.Pendiente")
+    int aprobarPendientes(@Param("ids") Collection<Integer> idsClubes, @Param("admin") Usuario admin,
+                          @Param("fecha") LocalDateTime fecha);
+
+    @Modifying
+    @Query("UPDATE Club c SET c.estado = com.robotech.model.Club.EstadoClub.Rechazado, c.fechaValidacion = :fecha, "
+            + "c.usuarioValidador = :admin, c.observaciones = :observaciones "
+            + "WHERE c.idClub IN :ids AND c.estado = com.robotech.model.Club.EstadoClub.Pendiente")
+    int rechazarPendientes(@Param("ids") Collection<Integer> idsClubes, @Param("admin") Usuario admin,
+                           @Param("fecha") LocalDateTime fecha, @Param("observaciones") String observaciones);
+
     boolean existsByNombreClub(String nombreClub);
     boolean existsByCorreoRepresentante(String correoRepresentante);
+
+    // Carga de los filtros de unicidad
+    @Query("SELECT c.nombreClub FROM Club c")
+    List<String> findNombres();
+
+    @Query("SELECT c.correoRepresentante FROM Club c")
+    List<String> findCorreosRepresentante();
+
+    // Paginación keyset: siguiente página a partir del último ID devuelto
+    @EntityGraph(attributePaths = {"usuarioValidador", "usuarioValidador.rol"})
+    List<Club> findByIdClubGreaterThanOrderByIdClubAsc(Integer idClub, Limit limit);
+
+    // Exportación: recorre la tabla con un cursor JDBC en lugar de cargarla completa
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c FROM Club c ORDER BY c.idClub")
+    Stream<Club> streamTodos();
 }
\ No newline at end of file
@@ -1,14 +1,81 @@
 package com.robotech.repository;
 
+import com.robotech.dto.FichaCompetidor;
+import com.robotech.dto.Participante;
+import com.robotech.dto.UbicacionCompetidor;
 import com.robotech.model.Competidor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface CompetidorRepository extends JpaRepository<Competidor, Integer> {
+public interface CompetidorRepository extends JpaRepository<Competidor, Integer>, CompetidorRepositoryCustom {
+    @EntityGraph(Competidor.GRAFO_DETALLE)
+    Optional<Competidor> findById(Integer idCompetidor);
+
+    @EntityGraph(Competidor.GRAFO_DETALLE)
     List<Competidor> findByClub_IdClub(Integer idClub);
+
+    @EntityGraph(Competidor.GRAFO_DETALLE)
     List<Competidor> findByCategoria_IdCategoria(Integer idCategoria);
+
+    @EntityGraph(Competidor.GRAFO_DETALLE)
     List<Competidor> findByActivoTrue();
+
     boolean existsByDocumentoIdentidad(String documentoIdentidad);
+
+    // Inscripción masiva: DNI ya registrados entre los recibidos
+    @Query("SELECT c.documentoIdentidad FROM Competidor c WHERE c.documentoIdentidad IN :documentos")
+    Set<String> findDocumentosRegistrados(@Param("documentos") Collection<String> documentos);
+
+    // Carga del filtro de unicidad de DNI
+    @Query("SELECT c.documentoIdentidad FROM Competidor c WHERE c.documentoIdentidad IS NOT NULL")
+    List<String> findDocumentos();
+
+    // Paginación keyset: siguiente página a partir del último ID devuelto
+    @EntityGraph(Competidor.GRAFO_DETALLE)
+    List<Competidor> findByIdCompetidorGreaterThanOrderByIdCompetidorAsc(Integer idCompetidor, Limit limit);
+
+    @EntityGraph(Competidor.GRAFO_DETALLE)
+    List<Competidor> findByActivoTrueAndIdCompetidorGreaterThanOrderByIdCompetidorAsc(Integer idCompetidor, Limit limit);
+
+    // Llaves de torneo: competidores activos de la categoría en orden de inscripción (siembra)
+    @Query("SELECT new com.robotech.dto.Participante(c.idCompetidor, c.club.idClub) FROM Competidor c "
+            + "WHERE c.categoria.idCategoria = :idCategoria AND c.activo = true ORDER BY c.idCompetidor")
+    List<Participante> findParticipantes(@Param("idCategoria") Integer idCategoria);
+
+    // Ranking: club y categoría de los competidores que sumaron puntos
+    @Query("SELECT new com.robotech.dto.UbicacionCompetidor(c.idCompetidor, c.club.idClub, c.categoria.idCategoria) "
+            + "FROM Competidor c WHERE c.idCompetidor IN :ids")
+    List<UbicacionCompetidor> findUbicaciones(@Param("ids") Collection<Integer> ids);
+
+    // Exportación: recorre la tabla con un cursor JDBC en lugar de cargarla completa
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c FROM Competidor c JOIN FETCH c.club JOIN FETCH c.categoria ORDER BY c.idCompetidor")
+    Stream<Competidor> streamTodos();
+
+    // Reconciliación de contadores: [idClub, total, activos] y [idCategoria, total, activos]
+    @Query("SELECT c.club.idClub, COUNT(c), SUM(CASE WHEN c.activo = true THEN 1 ELSE 0 END) "
+            + "FROM Competidor c GROUP BY c.club.idClub")
+    List<Object[]> contarPorClub();
+
+    @Query("SELECT c.categoria.idCategoria, COUNT(c), SUM(CASE WHEN c.activo = true THEN 1 ELSE 0 END) "
+            + "FROM Competidor c GROUP BY c.categoria.idCategoria")
+    List<Object[]> contarPorCategoria();
+
+    // Índice de búsqueda: datos indexados de todos los competidores, sin cargar club ni categoría
+    @Query("SELECT new com.robotech.dto.FichaCompetidor(c.idCompetidor, c.nombre, c.apellido, c.documentoIdentidad, "
+            + "c.nombreRobot, c.club.idClub, c.categoria.idCategoria, c.activo) FROM Competidor c")
+    List<FichaCompetidor> findFichas();
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.robotech.repository;
+
+import com.robotech.model.Competidor;
+
+import java.util.List;
+
+/**
+ * Operaciones de competidores que se resuelven con JDBC directo
+ */
+public interface CompetidorRepositoryCustom {
+
+    /**
+     * Inserta los competidores con JDBC batch y asigna a cada uno su ID generado
+     * Club y categoría deben venir ya validados
+     */
+    void insertarEnLote(List<Competidor> competidores);
+}
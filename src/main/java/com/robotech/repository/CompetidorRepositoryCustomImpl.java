@@ -0,0 +1,87 @@
+package com.robotech.repository;
+
+import com.robotech.model.Competidor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CompetidorRepositoryCustomImpl implements CompetidorRepositoryCustom {
+
+    private static final int TAMANIO_LOTE = 500;
+
+    private static final String INSERT_COMPETIDOR =
+            "INSERT INTO competidor (nombre, apellido, documento_identidad, fecha_nacimiento, edad, correo, telefono, "
+                    + "id_club, id_categoria, nombre_robot, fecha_inscripcion, activo) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertarEnLote(List<Competidor> competidores) {
+        if (competidores.isEmpty()) {
+            return;
+        }
+        // IDENTITY impide el batch de Hibernate, por eso se usa JDBC sobre la conexión de la transacción actual
+        jdbcTemplate.execute((ConnectionCallback<Void>) conexion -> {
+            try (PreparedStatement ps = conexion.prepareStatement(INSERT_COMPETIDOR, Statement.RETURN_GENERATED_KEYS)) {
+                for (int inicio = 0; inicio < competidores.size(); inicio += TAMANIO_LOTE) {
+                    List<Competidor> lote = competidores.subList(inicio, Math.min(inicio + TAMANIO_LOTE, competidores.size()));
+                    LocalDateTime ahora = LocalDateTime.now();
+                    for (Competidor competidor : lote) {
+                        competidor.setFechaInscripcion(ahora);
+                        if (competidor.getActivo() == null) {
+                            competidor.setActivo(true);
+                        }
+                        asignarParametros(ps, competidor);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    try (ResultSet claves = ps.getGeneratedKeys()) {
+                        for (Competidor competidor : lote) {
+                            if (!claves.next()) {
+                                break;
+                            }
+                            competidor.setIdCompetidor(claves.getInt(1));
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void asignarParametros(PreparedStatement ps, Competidor competidor) throws SQLException {
+        ps.setString(1, competidor.getNombre());
+        ps.setString(2, competidor.getApellido());
+        ps.setString(3, competidor.getDocumentoIdentidad());
+        if (competidor.getFechaNacimiento() != null) {
+            ps.setDate(4, Date.valueOf(competidor.getFechaNacimiento()));
+        } else {
+            ps.setNull(4, Types.DATE);
+        }
+        if (competidor.getEdad() != null) {
+            ps.setInt(5, competidor.getEdad());
+        } else {
+            ps.setNull(5, Types.INTEGER);
+        }
+        ps.setString(6, competidor.getCorreo());
+        ps.setString(7, competidor.getTelefono());
+        ps.setInt(8, competidor.getClub().getIdClub());
+        ps.setInt(9, competidor.getCategoria().getIdCategoria());
+        ps.setString(10, competidor.getNombreRobot());
+        ps.setTimestamp(11, Timestamp.valueOf(competidor.getFechaInscripcion()));
+        ps.setBoolean(12, competidor.getActivo());
+    }
+}
@@ -0,0 +1,22 @@
+package com.robotech.repository;
+
+import com.robotech.model.ConteoCompetidores;
+import com.robotech.model.ConteoCompetidores.Ambito;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ConteoCompetidoresRepository
+        extends JpaRepository<ConteoCompetidores, ConteoCompetidores.Clave>, ConteoCompetidoresRepositoryCustom {
+
+    List<ConteoCompetidores> findByAmbitoOrderByIdAmbitoAsc(Ambito ambito);
+
+    // Reconciliación: bloquea los contadores para que ninguna inscripción los modifique mientras se recalculan
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConteoCompetidores c")
+    List<ConteoCompetidores> bloquearTodos();
+}
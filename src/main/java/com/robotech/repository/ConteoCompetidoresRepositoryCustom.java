@@ -0,0 +1,17 @@
+package com.robotech.repository;
+
+import com.robotech.model.ConteoCompetidores;
+
+import java.util.List;
+
+/**
+ * Actualización de contadores con upsert JDBC
+ */
+public interface ConteoCompetidoresRepositoryCustom {
+
+    /**
+     * Suma a cada contador la variación recibida (total y activos pueden ser negativos),
+     * creando la fila si todavía no existe
+     */
+    void sumarEnLote(List<ConteoCompetidores> variaciones);
+}
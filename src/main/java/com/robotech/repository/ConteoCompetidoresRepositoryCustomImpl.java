@@ -0,0 +1,30 @@
+package com.robotech.repository;
+
+import com.robotech.model.ConteoCompetidores;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class ConteoCompetidoresRepositoryCustomImpl implements ConteoCompetidoresRepositoryCustom {
+
+    private static final int TAMANIO_LOTE = 500;
+
+    // Un solo statement: no hay carrera entre "no existe" e "insertar" cuando dos inscripciones crean la misma fila
+    private static final String UPSERT_CONTEO =
+            "INSERT INTO conteo_competidores (ambito, id_ambito, total, activos) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE total = total + VALUES(total), activos = activos + VALUES(activos)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void sumarEnLote(List<ConteoCompetidores> variaciones) {
+        jdbcTemplate.batchUpdate(UPSERT_CONTEO, variaciones, TAMANIO_LOTE, (ps, variacion) -> {
+            ps.setString(1, variacion.getAmbito().name());
+            ps.setInt(2, variacion.getIdAmbito());
+            ps.setLong(3, variacion.getTotal());
+            ps.setLong(4, variacion.getActivos());
+        });
+    }
+}
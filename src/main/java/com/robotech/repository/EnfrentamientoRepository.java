@@ -0,0 +1,27 @@
+package com.robotech.repository;
+
+import com.robotech.model.Enfrentamiento;
+import com.robotech.model.Enfrentamiento.EstadoEnfrentamiento;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EnfrentamientoRepository extends JpaRepository<Enfrentamiento, Integer>, EnfrentamientoRepositoryCustom {
+
+    // Paginación keyset por número de enfrentamiento dentro del torneo
+    List<Enfrentamiento> findByIdTorneoAndNumeroGreaterThanOrderByNumeroAsc(Integer idTorneo, Integer numero, Limit limit);
+
+    // Rondas suizas: todos los enfrentamientos ya jugados del torneo
+    List<Enfrentamiento> findByIdTorneo(Integer idTorneo);
+
+    boolean existsByIdTorneoAndRondaAndEstado(Integer idTorneo, Integer ronda, EstadoEnfrentamiento estado);
+
+    // Resultados: el enfrentamiento y sus destinos se bloquean para que dos resultados no ocupen el mismo lugar
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Enfrentamiento> findByIdTorneoAndNumero(Integer idTorneo, Integer numero);
+}
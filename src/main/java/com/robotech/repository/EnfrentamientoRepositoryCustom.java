@@ -0,0 +1,17 @@
+package com.robotech.repository;
+
+import com.robotech.model.Enfrentamiento;
+
+import java.util.List;
+
+/**
+ * Operaciones de enfrentamientos que se resuelven con JDBC directo
+ */
+public interface EnfrentamientoRepositoryCustom {
+
+    /**
+     * Inserta los enfrentamientos de una llave con JDBC batch
+     * No asigna los IDs generados: dentro del torneo se identifican por su número
+     */
+    void insertarEnLote(List<Enfrentamiento> enfrentamientos);
+}
@@ -0,0 +1,48 @@
+package com.robotech.repository;
+
+import com.robotech.model.Enfrentamiento;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+public class EnfrentamientoRepositoryCustomImpl implements EnfrentamientoRepositoryCustom {
+
+    private static final int TAMANIO_LOTE = 1000;
+
+    private static final String INSERT_ENFRENTAMIENTO =
+            "INSERT INTO enfrentamiento (id_torneo, numero, llave, ronda, posicion, id_competidor_a, id_competidor_b, "
+                    + "id_ganador, siguiente_ganador, siguiente_perdedor, estado) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertarEnLote(List<Enfrentamiento> enfrentamientos) {
+        jdbcTemplate.batchUpdate(INSERT_ENFRENTAMIENTO, enfrentamientos, TAMANIO_LOTE, (ps, enfrentamiento) -> {
+            ps.setInt(1, enfrentamiento.getIdTorneo());
+            ps.setInt(2, enfrentamiento.getNumero());
+            ps.setString(3, enfrentamiento.getLlave().name());
+            ps.setInt(4, enfrentamiento.getRonda());
+            ps.setInt(5, enfrentamiento.getPosicion());
+            setEntero(ps, 6, enfrentamiento.getIdCompetidorA());
+            setEntero(ps, 7, enfrentamiento.getIdCompetidorB());
+            setEntero(ps, 8, enfrentamiento.getIdGanador());
+            setEntero(ps, 9, enfrentamiento.getSiguienteGanador());
+            setEntero(ps, 10, enfrentamiento.getSiguientePerdedor());
+            ps.setString(11, enfrentamiento.getEstado().name());
+        });
+    }
+
+    private static void setEntero(PreparedStatement ps, int indice, Integer valor) throws SQLException {
+        if (valor != null) {
+            ps.setInt(indice, valor);
+        } else {
+            ps.setNull(indice, Types.INTEGER);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.robotech.repository;
+
+import com.robotech.model.Resultado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ResultadoRepository extends JpaRepository<Resultado, Integer> {
+
+    // Ranking: puntos acumulados por competidor [idCompetidor, suma]
+    @Query("SELECT r.idCompetidor, SUM(r.puntos) FROM Resultado r GROUP BY r.idCompetidor")
+    List<Object[]> sumarPuntosPorCompetidor();
+}
@@ -0,0 +1,17 @@
+package com.robotech.repository;
+
+import com.robotech.model.Torneo;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TorneoRepository extends JpaRepository<Torneo, Integer> {
+    @EntityGraph(attributePaths = "categoria")
+    Optional<Torneo> findById(Integer idTorneo);
+
+    @EntityGraph(attributePaths = "categoria")
+    List<Torneo> findByCategoria_IdCategoriaOrderByIdTorneoDesc(Integer idCategoria);
+}
@@ -1,16 +1,39 @@
 package com.robotech.repository;
 
 import com.robotech.model.Usuario;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
 
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Integer> {
+    @EntityGraph(attributePaths = "rol")
+    Optional<Usuario> findById(Integer idUsuario);
+
+    @EntityGraph(attributePaths = "rol")
     Optional<Usuario> findByCorreo(String correo);
+
     boolean existsByCorreo(String correo);
     boolean existsByTelefono(String telefono);
+
+    // Carga de los filtros de unicidad
+    @Query("SELECT u.correo FROM Usuario u")
+    List<String> findCorreos();
+
+    @Query("SELECT u.telefono FROM Usuario u WHERE u.telefono IS NOT NULL")
+    List<String> findTelefonos();
+
+    @EntityGraph(attributePaths = "rol")
     List<Usuario> findByRol_IdRol(Integer idRol);
+
+    @EntityGraph(attributePaths = "rol")
     List<Usuario> findByActivoTrue();
+
+    // Paginación keyset: siguiente página a partir del último ID devuelto
+    @EntityGraph(attributePaths = "rol")
+    List<Usuario> findByIdUsuarioGreaterThanOrderByIdUsuarioAsc(Integer idUsuario, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.robotech.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita los intentos de login por IP y por correo antes de tocar la base de datos o BCrypt
+ * Métricas: robotech.login.rechazos{clave=ip|correo} y robotech.login.limitador.claves
+ */
+@Component
+public class LimitadorLogin {
+
+    private static final int FRANJAS = 64;
+
+    private final LimitadorTokenBucket porIp;
+    private final LimitadorTokenBucket porCorreo;
+    private final Counter rechazosIp;
+    private final Counter rechazosCorreo;
+
+    public LimitadorLogin(MeterRegistry meterRegistry,
+                          @Value("${robotech.login.limite.ip.capacidad:20}") int capacidadIp,
+                          @Value("${robotech.login.limite.ip.recarga:3s}") Duration recargaIp,
+                          @Value("${robotech.login.limite.correo.capacidad:5}") int capacidadCorreo,
+                          @Value("${robotech.login.limite.correo.recarga:30s}") Duration recargaCorreo,
+                          @Value("${robotech.login.limite.maximo-claves:100000}") int maximoClaves) {
+        this.porIp = new LimitadorTokenBucket(capacidadIp, recargaIp.toNanos(), maximoClaves, FRANJAS);
+        this.porCorreo = new LimitadorTokenBucket(capacidadCorreo, recargaCorreo.toNanos(), maximoClaves, FRANJAS);
+        this.rechazosIp = Counter.builder("robotech.login.rechazos").tag("clave", "ip")
+                .description("Intentos de login rechazados por el limitador").register(meterRegistry);
+        this.rechazosCorreo = Counter.builder("robotech.login.rechazos").tag("clave", "correo")
+                .description("Intentos de login rechazados por el limitador").register(meterRegistry);
+        Gauge.builder("robotech.login.limitador.claves", () -> porIp.claves() + porCorreo.claves())
+                .description("Buckets retenidos en memoria").register(meterRegistry);
+    }
+
+    /**
+     * Consume un intento para la IP y el correo
+     * Solo consume si ambos buckets lo permiten: un intento rechazado por correo no gasta el de la IP
+     *
+     * @return 0 si el intento se permite, o los segundos a esperar antes de reintentar
+     */
+    public long verificar(String ip, String correo) {
+        String claveCorreo = correo != null ? correo.trim().toLowerCase(Locale.ROOT) : null;
+        long espera = claveCorreo != null ? porCorreo.consultar(claveCorreo) : 0;
+        if (espera > 0) {
+            rechazosCorreo.increment();
+            return segundos(espera);
+        }
+        espera = porIp.intentar(ip);
+        if (espera > 0) {
+            rechazosIp.increment();
+            return segundos(espera);
+        }
+        if (claveCorreo != null) {
+            espera = porCorreo.intentar(claveCorreo);
+            if (espera > 0) {
+                // Otro intento con el mismo correo se llevó el último token entre la consulta y el consumo
+                porIp.devolver(ip);
+                rechazosCorreo.increment();
+                return segundos(espera);
+            }
+        }
+        return 0;
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
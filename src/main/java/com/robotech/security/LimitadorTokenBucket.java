@@ -0,0 +1,141 @@
+package com.robotech.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token bucket por clave con memoria acotada
+ * Las claves se reparten en franjas; cada franja es un LRU con su propio lock, así la decisión
+ * es O(1) y hilos con claves distintas casi nunca compiten. Al llenarse una franja se descarta
+ * el bucket usado hace más tiempo (equivale a olvidar a un cliente inactivo).
+ */
+public class LimitadorTokenBucket {
+
+    private final Franja[] franjas;
+    private final double capacidad;
+    private final double tokensPorNano;
+
+    /**
+     * @param capacidad     intentos permitidos en ráfaga
+     * @param recargaNanos  tiempo para recuperar un intento
+     * @param maximoClaves  buckets retenidos como máximo (entre todas las franjas)
+     * @param numeroFranjas potencia de 2
+     */
+    public LimitadorTokenBucket(int capacidad, long recargaNanos, int maximoClaves, int numeroFranjas) {
+        if (Integer.bitCount(numeroFranjas) != 1) {
+            throw new IllegalArgumentException("El número de franjas debe ser potencia de 2");
+        }
+        this.capacidad = capacidad;
+        this.tokensPorNano = 1.0 / recargaNanos;
+        this.franjas = new Franja[numeroFranjas];
+        int porFranja = Math.max(1, maximoClaves / numeroFranjas);
+        for (int i = 0; i < numeroFranjas; i++) {
+            franjas[i] = new Franja(porFranja);
+        }
+    }
+
+    /**
+     * Consume un intento de la clave
+     *
+     * @return 0 si se permite, o los nanosegundos que faltan para el siguiente intento disponible
+     */
+    public long intentar(String clave) {
+        Franja franja = franja(clave);
+        long ahora = System.nanoTime();
+
+        synchronized (franja) {
+            Bucket bucket = franja.get(clave);
+            if (bucket == null) {
+                bucket = new Bucket(capacidad, ahora);
+                franja.put(clave, bucket);
+            } else {
+                recargar(bucket, ahora);
+            }
+
+            if (bucket.tokens >= 1.0) {
+                bucket.tokens -= 1.0;
+                return 0;
+            }
+            return espera(bucket);
+        }
+    }
+
+    /**
+     * Como {@link #intentar(String)} pero sin consumir ni crear el bucket
+     */
+    public long consultar(String clave) {
+        Franja franja = franja(clave);
+        long ahora = System.nanoTime();
+
+        synchronized (franja) {
+            Bucket bucket = franja.get(clave);
+            if (bucket == null) {
+                return 0;
+            }
+            recargar(bucket, ahora);
+            return bucket.tokens >= 1.0 ? 0 : espera(bucket);
+        }
+    }
+
+    /**
+     * Reintegra un intento consumido con {@link #intentar(String)}
+     */
+    public void devolver(String clave) {
+        Franja franja = franja(clave);
+
+        synchronized (franja) {
+            Bucket bucket = franja.get(clave);
+            if (bucket != null) {
+                bucket.tokens = Math.min(capacidad, bucket.tokens + 1.0);
+            }
+        }
+    }
+
+    private Franja franja(String clave) {
+        int hash = clave.hashCode();
+        return franjas[(hash ^ (hash >>> 16)) & (franjas.length - 1)];
+    }
+
+    private void recargar(Bucket bucket, long ahora) {
+        bucket.tokens = Math.min(capacidad, bucket.tokens + (ahora - bucket.ultimaRecarga) * tokensPorNano);
+        bucket.ultimaRecarga = ahora;
+    }
+
+    private long espera(Bucket bucket) {
+        return (long) Math.ceil((1.0 - bucket.tokens) / tokensPorNano);
+    }
+
+    public int claves() {
+        int total = 0;
+        for (Franja franja : franjas) {
+            synchronized (franja) {
+                total += franja.size();
+            }
+        }
+        return total;
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long ultimaRecarga;
+
+        private Bucket(double tokens, long ultimaRecarga) {
+            this.tokens = tokens;
+            this.ultimaRecarga = ultimaRecarga;
+        }
+    }
+
+    private static final class Franja extends LinkedHashMap<String, Bucket> {
+        private final int maximo;
+
+        private Franja(int maximo) {
+            super(16, 0.75f, true);
+            this.maximo = maximo;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maximo;
+        }
+    }
+}
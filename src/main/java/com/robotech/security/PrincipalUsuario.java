@@ -0,0 +1,7 @@
+package com.robotech.security;
+
+/**
+ * Datos del usuario contenidos en un token de sesión verificado
+ */
+public record PrincipalUsuario(Integer idUsuario, String rol, long emitidoEn, long expiraEn) {
+}
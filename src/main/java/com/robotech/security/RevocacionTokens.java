@@ -0,0 +1,51 @@
+package com.robotech.security;
+
+import com.robotech.event.UsuarioCambiadoEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revocación de tokens por usuario
+ * Al cambiar el estado o el rol de un usuario se invalidan todos los tokens emitidos hasta ese momento.
+ * La marca se pone después del commit: antes, un token emitido mientras la transacción seguía abierta
+ * llevaba el rol anterior y no quedaba revocado, y un rollback revocaba sin que nada cambiara.
+ * Una marca deja de importar cuando los tokens que cubre ya expiraron, por eso se depura periódicamente.
+ */
+@Component
+public class RevocacionTokens {
+
+    private final Map<Integer, Long> revocadosHasta = new ConcurrentHashMap<>();
+
+    private final long duracionMillis;
+
+    public RevocacionTokens(@Value("${robotech.token.duracion:8h}") Duration duracion) {
+        this.duracionMillis = duracion.toMillis();
+    }
+
+    public void revocar(Integer idUsuario) {
+        revocadosHasta.put(idUsuario, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void usuarioCambiado(UsuarioCambiadoEvent evento) {
+        revocar(evento.idUsuario());
+    }
+
+    public boolean estaRevocado(PrincipalUsuario principal) {
+        Long hasta = revocadosHasta.get(principal.idUsuario());
+        return hasta != null && principal.emitidoEn() <= hasta;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void depurar() {
+        long limite = System.currentTimeMillis() - duracionMillis;
+        revocadosHasta.values().removeIf(hasta -> hasta < limite);
+    }
+}
@@ -0,0 +1,43 @@
+package com.robotech.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Autentica la petición a partir del header Authorization: Bearer <token>
+ * Un token inválido, expirado o revocado se ignora y la petición sigue como anónima.
+ */
+public class TokenAutenticacionFilter extends OncePerRequestFilter {
+
+    private static final String PREFIJO = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAutenticacionFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(PREFIJO)) {
+            tokenService.verificar(header.substring(PREFIJO.length()).trim()).ifPresent(principal -> {
+                UsernamePasswordAuthenticationToken autenticacion = new UsernamePasswordAuthenticationToken(
+                        principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + principal.rol())));
+                SecurityContextHolder.getContext().setAuthentication(autenticacion);
+            });
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,128 @@
+package com.robotech.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.robotech.model.Usuario;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Tokens de sesión firmados con HMAC-SHA256
+ * Formato: base64url(idUsuario|emitidoEn|expiraEn|rol).base64url(firma)
+ * La verificación no consulta la base de datos: solo firma, expiración y revocación en memoria.
+ */
+@Service
+public class TokenService {
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec clave;
+    private final long duracionMillis;
+    private final ThreadLocal<Mac> macPorHilo;
+
+    // Tokens ya verificados: evita decodificar y recalcular la firma en cada petición
+    private final Cache<String, PrincipalUsuario> principales;
+
+    @Autowired
+    private RevocacionTokens revocacionTokens;
+
+    public TokenService(@Value("${robotech.token.secreto}") String secreto,
+                        @Value("${robotech.token.duracion:8h}") Duration duracion,
+                        @Value("${robotech.token.cache-principales:10000}") long tamanioCache) {
+        byte[] bytes = secreto.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < 32) {
+            throw new IllegalStateException("robotech.token.secreto debe tener al menos 32 bytes");
+        }
+        this.clave = new SecretKeySpec(bytes, ALGORITMO);
+        this.duracionMillis = duracion.toMillis();
+        this.macPorHilo = ThreadLocal.withInitial(this::nuevoMac);
+        this.principales = Caffeine.newBuilder()
+                .maximumSize(tamanioCache)
+                .expireAfterWrite(duracion)
+                .build();
+    }
+
+    /**
+     * Emite un token para el usuario autenticado
+     */
+    public String emitir(Usuario usuario) {
+        long ahora = System.currentTimeMillis();
+        String contenido = usuario.getIdUsuario() + "|" + ahora + "|" + (ahora + duracionMillis) + "|"
+                + usuario.getRol().getNombreRol();
+        byte[] bytes = contenido.getBytes(StandardCharsets.UTF_8);
+        return BASE64.encodeToString(bytes) + "." + BASE64.encodeToString(firmar(bytes));
+    }
+
+    public long getDuracionSegundos() {
+        return duracionMillis / 1000;
+    }
+
+    /**
+     * Verifica firma, expiración y revocación del token
+     */
+    public Optional<PrincipalUsuario> verificar(String token) {
+        PrincipalUsuario principal = principales.getIfPresent(token);
+        if (principal == null) {
+            principal = decodificar(token);
+            if (principal == null) {
+                return Optional.empty();
+            }
+            principales.put(token, principal);
+        }
+
+        if (principal.expiraEn() <= System.currentTimeMillis() || revocacionTokens.estaRevocado(principal)) {
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
+    private PrincipalUsuario decodificar(String token) {
+        int punto = token.indexOf('.');
+        if (punto <= 0 || punto != token.lastIndexOf('.')) {
+            return null;
+        }
+        try {
+            byte[] contenido = BASE64_DECODER.decode(token.substring(0, punto));
+            byte[] firma = BASE64_DECODER.decode(token.substring(punto + 1));
+            if (!MessageDigest.isEqual(firma, firmar(contenido))) {
+                return null;
+            }
+
+            String[] partes = new String(contenido, StandardCharsets.UTF_8).split("\\|", 4);
+            if (partes.length != 4) {
+                return null;
+            }
+            return new PrincipalUsuario(Integer.valueOf(partes[0]), partes[3],
+                    Long.parseLong(partes[1]), Long.parseLong(partes[2]));
+        } catch (IllegalArgumentException e) {
+            // Base64 o números mal formados
+            return null;
+        }
+    }
+
+    private byte[] firmar(byte[] contenido) {
+        return macPorHilo.get().doFinal(contenido);
+    }
+
+    private Mac nuevoMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(clave);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo inicializar " + ALGORITMO, e);
+        }
+    }
+}
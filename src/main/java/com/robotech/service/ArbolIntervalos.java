@@ -0,0 +1,176 @@
+package com.robotech.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Árbol de intervalos inmutable (AVL aumentado con el máximo extremo derecho de cada subárbol)
+ * Ordenado por inicio del intervalo y luego por ID. Insertar y eliminar devuelven un árbol nuevo
+ * copiando solo el camino modificado (O(log n)), así los lectores usan una versión sin locks.
+ * Los intervalos son cerrados: [inicio, fin].
+ */
+final class ArbolIntervalos<T> {
+
+    private static final ArbolIntervalos<?> VACIO = new ArbolIntervalos<>(null);
+
+    private final Nodo<T> raiz;
+
+    private ArbolIntervalos(Nodo<T> raiz) {
+        this.raiz = raiz;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ArbolIntervalos<T> vacio() {
+        return (ArbolIntervalos<T>) VACIO;
+    }
+
+    ArbolIntervalos<T> insertar(int inicio, int fin, int id, T valor) {
+        return new ArbolIntervalos<>(insertar(raiz, new Nodo<>(inicio, fin, id, valor, null, null)));
+    }
+
+    ArbolIntervalos<T> eliminar(int inicio, int id) {
+        return new ArbolIntervalos<>(eliminar(raiz, inicio, id));
+    }
+
+    /**
+     * Valores cuyos intervalos contienen el punto, ordenados por inicio: O(log n + k)
+     */
+    List<T> contienen(int punto) {
+        List<T> resultado = new ArrayList<>();
+        contienen(raiz, punto, resultado);
+        return resultado;
+    }
+
+    int tamanio() {
+        return raiz != null ? raiz.tamanio : 0;
+    }
+
+    private static <T> void contienen(Nodo<T> nodo, int punto, List<T> resultado) {
+        if (nodo == null || nodo.maximoFin < punto) {
+            return;
+        }
+        contienen(nodo.izquierdo, punto, resultado);
+        if (nodo.inicio <= punto) {
+            if (punto <= nodo.fin) {
+                resultado.add(nodo.valor);
+            }
+            // A la derecha todos empiezan en nodo.inicio o después
+            contienen(nodo.derecho, punto, resultado);
+        }
+    }
+
+    private static <T> Nodo<T> insertar(Nodo<T> nodo, Nodo<T> nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        int comparacion = comparar(nuevo.inicio, nuevo.id, nodo);
+        if (comparacion < 0) {
+            return balancear(nodo.conHijos(insertar(nodo.izquierdo, nuevo), nodo.derecho));
+        }
+        if (comparacion > 0) {
+            return balancear(nodo.conHijos(nodo.izquierdo, insertar(nodo.derecho, nuevo)));
+        }
+        return new Nodo<>(nuevo.inicio, nuevo.fin, nuevo.id, nuevo.valor, nodo.izquierdo, nodo.derecho);
+    }
+
+    private static <T> Nodo<T> eliminar(Nodo<T> nodo, int inicio, int id) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = comparar(inicio, id, nodo);
+        if (comparacion < 0) {
+            return balancear(nodo.conHijos(eliminar(nodo.izquierdo, inicio, id), nodo.derecho));
+        }
+        if (comparacion > 0) {
+            return balancear(nodo.conHijos(nodo.izquierdo, eliminar(nodo.derecho, inicio, id)));
+        }
+        if (nodo.izquierdo == null) {
+            return nodo.derecho;
+        }
+        if (nodo.derecho == null) {
+            return nodo.izquierdo;
+        }
+        // Reemplazar por el sucesor (mínimo del subárbol derecho)
+        Nodo<T> sucesor = nodo.derecho;
+        while (sucesor.izquierdo != null) {
+            sucesor = sucesor.izquierdo;
+        }
+        Nodo<T> derecho = eliminar(nodo.derecho, sucesor.inicio, sucesor.id);
+        return balancear(new Nodo<>(sucesor.inicio, sucesor.fin, sucesor.id, sucesor.valor, nodo.izquierdo, derecho));
+    }
+
+    private static int comparar(int inicio, int id, Nodo<?> nodo) {
+        int comparacion = Integer.compare(inicio, nodo.inicio);
+        return comparacion != 0 ? comparacion : Integer.compare(id, nodo.id);
+    }
+
+    private static <T> Nodo<T> balancear(Nodo<T> nodo) {
+        int factor = altura(nodo.izquierdo) - altura(nodo.derecho);
+        if (factor > 1) {
+            Nodo<T> izquierdo = nodo.izquierdo;
+            if (altura(izquierdo.izquierdo) < altura(izquierdo.derecho)) {
+                izquierdo = rotarIzquierda(izquierdo);
+            }
+            return rotarDerecha(nodo.conHijos(izquierdo, nodo.derecho));
+        }
+        if (factor < -1) {
+            Nodo<T> derecho = nodo.derecho;
+            if (altura(derecho.derecho) < altura(derecho.izquierdo)) {
+                derecho = rotarDerecha(derecho);
+            }
+            return rotarIzquierda(nodo.conHijos(nodo.izquierdo, derecho));
+        }
+        return nodo;
+    }
+
+    private static <T> Nodo<T> rotarDerecha(Nodo<T> nodo) {
+        Nodo<T> izquierdo = nodo.izquierdo;
+        return izquierdo.conHijos(izquierdo.izquierdo, nodo.conHijos(izquierdo.derecho, nodo.derecho));
+    }
+
+    private static <T> Nodo<T> rotarIzquierda(Nodo<T> nodo) {
+        Nodo<T> derecho = nodo.derecho;
+        return derecho.conHijos(nodo.conHijos(nodo.izquierdo, derecho.izquierdo), derecho.derecho);
+    }
+
+    private static int altura(Nodo<?> nodo) {
+        return nodo != null ? nodo.altura : 0;
+    }
+
+    private static final class Nodo<T> {
+
+        private final int inicio;
+        private final int fin;
+        private final int id;
+        private final T valor;
+        private final Nodo<T> izquierdo;
+        private final Nodo<T> derecho;
+        private final int altura;
+        private final int tamanio;
+        // Mayor fin entre este nodo y sus descendientes: permite descartar subárboles completos
+        private final int maximoFin;
+
+        private Nodo(int inicio, int fin, int id, T valor, Nodo<T> izquierdo, Nodo<T> derecho) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.id = id;
+            this.valor = valor;
+            this.izquierdo = izquierdo;
+            this.derecho = derecho;
+            this.altura = 1 + Math.max(altura(izquierdo), altura(derecho));
+            this.tamanio = 1 + (izquierdo != null ? izquierdo.tamanio : 0) + (derecho != null ? derecho.tamanio : 0);
+            int maximo = fin;
+            if (izquierdo != null) {
+                maximo = Math.max(maximo, izquierdo.maximoFin);
+            }
+            if (derecho != null) {
+                maximo = Math.max(maximo, derecho.maximoFin);
+            }
+            this.maximoFin = maximo;
+        }
+
+        private Nodo<T> conHijos(Nodo<T> izquierdo, Nodo<T> derecho) {
+            return new Nodo<>(inicio, fin, id, valor, izquierdo, derecho);
+        }
+    }
+}
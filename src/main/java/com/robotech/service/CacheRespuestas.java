@@ -0,0 +1,120 @@
+package com.robotech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuestas JSON ya serializadas (y comprimidas con gzip) de endpoints GET casi estáticos
+ * Cada entrada queda asociada al ETag de {@link VersionesDatos} con el que se generó: cuando el servicio
+ * confirma un cambio la versión avanza y la entrada deja de servir sin necesidad de borrarla.
+ * Un acierto escribe los bytes directo en la respuesta, sin consultar la base de datos ni pasar por Jackson.
+ */
+@Component
+public class CacheRespuestas {
+
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Respuestas más chicas no se comprimen: el gzip no compensa
+    @Value("${robotech.respuestas.gzip-minimo:1024}")
+    private int gzipMinimo;
+
+    /**
+     * Escribe en la respuesta el JSON de la clave para la versión indicada
+     * Si no está en caché (o es de otra versión) lo genera con datos, lo guarda y lo escribe.
+     *
+     * @param etag versión leída antes de consultar los datos
+     */
+    public void escribir(String clave, String etag, Supplier<?> datos,
+                         WebRequest request, HttpServletResponse response) throws IOException {
+        Entrada entrada = entradas.get(clave);
+        if (entrada == null || !entrada.etag().equals(etag)) {
+            entrada = serializar(etag, datos.get());
+            entradas.put(clave, entrada);
+        }
+
+        boolean gzip = entrada.gzip() != null && aceptaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] cuerpo = gzip ? entrada.gzip() : entrada.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(cuerpo.length);
+        response.getOutputStream().write(cuerpo);
+        response.flushBuffer();
+    }
+
+    /**
+     * Accept-Encoding con sus valores q: gzip;q=0 lo rechaza, y si gzip no aparece decide el comodín *
+     */
+    static boolean aceptaGzip(String aceptadas) {
+        if (aceptadas == null) {
+            return false;
+        }
+        double gzip = -1;
+        double comodin = -1;
+        for (String codificacion : aceptadas.split(",")) {
+            String[] partes = codificacion.split(";");
+            String nombre = partes[0].trim().toLowerCase(Locale.ROOT);
+            if (nombre.equals("gzip") || nombre.equals("x-gzip")) {
+                gzip = Math.max(gzip, calidad(partes));
+            } else if (nombre.equals("*")) {
+                comodin = Math.max(comodin, calidad(partes));
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : comodin > 0;
+    }
+
+    /**
+     * Valor q de una codificación (1 si no lo indica, 0 si no se puede leer)
+     */
+    private static double calidad(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.length() > 2 && (parametro.charAt(0) == 'q' || parametro.charAt(0) == 'Q')
+                    && parametro.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parametro.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private Entrada serializar(String etag, Object datos) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(datos);
+        byte[] gzip = null;
+        if (json.length >= gzipMinimo) {
+            ByteArrayOutputStream comprimido = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream salida = new GZIPOutputStream(comprimido)) {
+                salida.write(json);
+            }
+            gzip = comprimido.toByteArray();
+        }
+        return new Entrada(etag, json, gzip);
+    }
+
+    private record Entrada(String etag, byte[] json, byte[] gzip) {
+    }
+}
@@ -1,9 +1,21 @@
 package com.robotech.service;
 
+import com.robotech.config.CacheConfig;
+import com.robotech.dto.PaginaCursor;
+import com.robotech.event.CategoriaCambiadaEvent;
+import com.robotech.exception.ConflictoException;
+import com.robotech.exception.NoEncontradoException;
 import com.robotech.model.Categoria;
 import com.robotech.repository.CategoriaRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -11,34 +23,49 @@ import java.util.Optional;
 
 @Service
 @Transactional
+@Timed(value = "robotech.servicio", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class CategoriaService {
 
     @Autowired
     private CategoriaRepository categoriaRepository;
 
+    @Autowired
+    private IndiceEdadesCategoria indiceEdadesCategoria;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * CU07: Crear categoría
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS, key = "#result.idCategoria"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_ACTIVAS, allEntries = true)
+    })
     public Categoria crearCategoria(Categoria categoria) {
         // Validar que el nombre no exista
         if (categoriaRepository.existsByNombreCategoria(categoria.getNombreCategoria())) {
-            throw new RuntimeException("Ya existe una categoría con ese nombre");
+            throw new ConflictoException("Ya existe una categoría con ese nombre");
         }
         
-        return categoriaRepository.save(categoria);
+        return publicarCambio(categoriaRepository.save(categoria));
     }
 
     /**
      * CU07: Actualizar categoría
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS, key = "#result.idCategoria"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_ACTIVAS, allEntries = true)
+    })
     public Categoria actualizarCategoria(Integer idCategoria, Categoria categoriaActualizada) {
         Categoria categoria = categoriaRepository.findById(idCategoria)
-                .orElseThrow(() -> new RuntimeException("Categoría no encontrada"));
+                .orElseThrow(() -> new NoEncontradoException("Categoría no encontrada"));
         
         // Validar nombre único (si cambió)
         if (!categoria.getNombreCategoria().equals(categoriaActualizada.getNombreCategoria())) {
             if (categoriaRepository.existsByNombreCategoria(categoriaActualizada.getNombreCategoria())) {
-                throw new RuntimeException("Ya existe una categoría con ese nombre");
+                throw new ConflictoException("Ya existe una categoría con ese nombre");
             }
         }
         
@@ -48,43 +75,56 @@ public class CategoriaService {
         categoria.setEdadMaxima(categoriaActualizada.getEdadMaxima());
         categoria.setActivo(categoriaActualizada.getActivo());
         
-        return categoriaRepository.save(categoria);
+        return publicarCambio(categoriaRepository.save(categoria));
     }
 
     /**
      * CU07: Eliminar categoría
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS, key = "#idCategoria"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_ACTIVAS, allEntries = true)
+    })
     public void eliminarCategoria(Integer idCategoria) {
         if (!categoriaRepository.existsById(idCategoria)) {
-            throw new RuntimeException("Categoría no encontrada");
+            throw new NoEncontradoException("Categoría no encontrada");
         }
         categoriaRepository.deleteById(idCategoria);
+        eventPublisher.publishEvent(new CategoriaCambiadaEvent(idCategoria, null));
     }
 
     /**
-     * Listar todas las categorías
+     * Listar todas las categorías (paginado por cursor)
      */
-    public List<Categoria> listarTodas() {
-        return categoriaRepository.findAll();
+    @Transactional(readOnly = true)
+    public PaginaCursor<Categoria> listarTodas(Integer despuesDe, Integer limite) {
+        int tamanio = PaginaCursor.normalizarLimite(limite);
+        List<Categoria> filas = categoriaRepository.findByIdCategoriaGreaterThanOrderByIdCategoriaAsc(
+                PaginaCursor.cursorInicial(despuesDe), Limit.of(tamanio + 1));
+        return PaginaCursor.de(filas, tamanio, Categoria::getIdCategoria);
     }
 
     /**
-     * Listar categorías activas
+     * Listar categorías activas (cacheado)
+     * Lo cacheado se lee de la primaria: de una réplica atrasada quedarían datos viejos hasta expirar
      */
+    @Cacheable(CacheConfig.CATEGORIAS_ACTIVAS)
     public List<Categoria> listarActivas() {
-        return categoriaRepository.findByActivoTrue();
+        return categoriaRepository.findByActivoTrue().stream().map(CategoriaService::desacoplada).toList();
     }
 
     /**
-     * Buscar categoría por ID
+     * Buscar categoría por ID (cacheado)
      */
+    @Cacheable(cacheNames = CacheConfig.CATEGORIAS, key = "#id", unless = "#result == null")
     public Optional<Categoria> buscarPorId(Integer id) {
-        return categoriaRepository.findById(id);
+        return categoriaRepository.findById(id).map(CategoriaService::desacoplada);
     }
 
     /**
      * Buscar categoría por nombre
      */
+    @Transactional(readOnly = true)
     public Optional<Categoria> buscarPorNombre(String nombre) {
         return categoriaRepository.findByNombreCategoria(nombre);
     }
@@ -92,11 +132,38 @@ public class CategoriaService {
     /**
      * Activar/Desactivar categoría
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS, key = "#result.idCategoria"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_ACTIVAS, allEntries = true)
+    })
     public Categoria cambiarEstado(Integer idCategoria, Boolean activo) {
         Categoria categoria = categoriaRepository.findById(idCategoria)
-                .orElseThrow(() -> new RuntimeException("Categoría no encontrada"));
+                .orElseThrow(() -> new NoEncontradoException("Categoría no encontrada"));
         
         categoria.setActivo(activo);
-        return categoriaRepository.save(categoria);
+        return publicarCambio(categoriaRepository.save(categoria));
+    }
+
+    /**
+     * Categorías activas en las que puede inscribirse un competidor de la edad indicada
+     * Se resuelve con el índice en memoria, sin consultar la base de datos
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Categoria> listarElegibles(int edad) {
+        return indiceEdadesCategoria.elegibles(edad);
+    }
+
+    private Categoria publicarCambio(Categoria categoria) {
+        eventPublisher.publishEvent(new CategoriaCambiadaEvent(categoria.getIdCategoria(), categoria));
+        return categoria;
+    }
+
+    /**
+     * Copia fuera del contexto de persistencia: lo cacheado lo comparten todas las peticiones
+     */
+    private static Categoria desacoplada(Categoria categoria) {
+        return new Categoria(categoria.getIdCategoria(), categoria.getNombreCategoria(), categoria.getDescripcion(),
+                categoria.getEdadMinima(), categoria.getEdadMaxima(), categoria.getActivo(),
+                categoria.getFechaCreacion());
     }
 }
\ No newline at end of file
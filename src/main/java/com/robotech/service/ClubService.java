@@ -1,46 +1,68 @@
 package com.robotech.service;
 
+import com.robotech.dto.PaginaCursor;
+import com.robotech.event.ClubCambiadoEvent;
+import com.robotech.event.ClubesValidadosEvent;
+import com.robotech.exception.ConflictoException;
+import com.robotech.exception.NoEncontradoException;
 import com.robotech.model.Club;
 import com.robotech.model.Usuario;
 import com.robotech.repository.ClubRepository;
 import com.robotech.repository.UsuarioRepository;
+import com.robotech.unicidad.FiltrosUnicidad;
+import com.robotech.unicidad.FiltrosUnicidad.Clave;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @Transactional
+@Timed(value = "robotech.servicio", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class ClubService {
 
+    public static final int MAXIMO_VALIDACION_MASIVA = 1000;
+
     @Autowired
     private ClubRepository clubRepository;
     
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private FiltrosUnicidad filtrosUnicidad;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * CU01: Registrar Club
      * Registra un nuevo club con estado "Pendiente"
      */
     public Club registrarClub(Club club) {
-        // Validar que el nombre no exista
-        if (clubRepository.existsByNombreClub(club.getNombreClub())) {
-            throw new RuntimeException("Ya existe un club con ese nombre");
+        // Validar que el nombre no exista (el filtro evita la consulta si seguro es nuevo)
+        if (filtrosUnicidad.puedeExistir(Clave.NombreClub, club.getNombreClub())
+                && clubRepository.existsByNombreClub(club.getNombreClub())) {
+            throw new ConflictoException("Ya existe un club con ese nombre");
         }
         
         // Validar que el correo no exista
-        if (clubRepository.existsByCorreoRepresentante(club.getCorreoRepresentante())) {
-            throw new RuntimeException("El correo del representante ya está registrado");
+        if (filtrosUnicidad.puedeExistir(Clave.CorreoClub, club.getCorreoRepresentante())
+                && clubRepository.existsByCorreoRepresentante(club.getCorreoRepresentante())) {
+            throw new ConflictoException("El correo del representante ya está registrado");
         }
         
         // Establecer estado inicial
         club.setEstado(Club.EstadoClub.Pendiente);
         
-        return clubRepository.save(club);
+        return publicarCambio(registrarUnicos(clubRepository.save(club)));
     }
 
     /**
@@ -49,21 +71,21 @@ public class ClubService {
      */
     public Club aprobarClub(Integer idClub, Integer idAdminValidador) {
         Club club = clubRepository.findById(idClub)
-                .orElseThrow(() -> new RuntimeException("Club no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Club no encontrado"));
         
         Usuario admin = usuarioRepository.findById(idAdminValidador)
-                .orElseThrow(() -> new RuntimeException("Administrador no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Administrador no encontrado"));
         
         // Validar que el club esté pendiente
         if (club.getEstado() != Club.EstadoClub.Pendiente) {
-            throw new RuntimeException("El club no está pendiente de validación");
+            throw new ConflictoException("El club no está pendiente de validación");
         }
         
         club.setEstado(Club.EstadoClub.Activo);
         club.setFechaValidacion(LocalDateTime.now());
         club.setUsuarioValidador(admin);
         
-        return clubRepository.save(club);
+        return publicarCambio(clubRepository.save(club));
     }
 
     /**
@@ -72,29 +94,76 @@ public class ClubService {
      */
     public Club rechazarClub(Integer idClub, Integer idAdminValidador, String observaciones) {
         Club club = clubRepository.findById(idClub)
-                .orElseThrow(() -> new RuntimeException("Club no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Club no encontrado"));
         
         Usuario admin = usuarioRepository.findById(idAdminValidador)
-                .orElseThrow(() -> new RuntimeException("Administrador no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Administrador no encontrado"));
         
         club.setEstado(Club.EstadoClub.Rechazado);
         club.setFechaValidacion(LocalDateTime.now());
         club.setUsuarioValidador(admin);
         club.setObservaciones(observaciones);
         
-        return clubRepository.save(club);
+        return publicarCambio(clubRepository.save(club));
+    }
+
+    /**
+     * CU02: Aprobar clubes en bloque
+     * Un solo UPDATE con IN para los clubes de la lista que siguen pendientes; los demás se omiten
+     *
+     * @return IDs de los clubes que pasaron a "Activo"
+     */
+    public List<Integer> aprobarClubes(Collection<Integer> idsClubes, Integer idAdminValidador) {
+        return validarPendientes(idsClubes, idAdminValidador, Club.EstadoClub.Activo, null);
+    }
+
+    /**
+     * CU02: Rechazar clubes en bloque
+     * Como el rechazo individual pero solo sobre clubes pendientes
+     *
+     * @return IDs de los clubes que pasaron a "Rechazado"
+     */
+    public List<Integer> rechazarClubes(Collection<Integer> idsClubes, Integer idAdminValidador, String observaciones) {
+        return validarPendientes(idsClubes, idAdminValidador, Club.EstadoClub.Rechazado, observaciones);
+    }
+
+    private List<Integer> validarPendientes(Collection<Integer> idsClubes, Integer idAdminValidador,
+                                            Club.EstadoClub estado, String observaciones) {
+        Usuario admin = usuarioRepository.findById(idAdminValidador)
+                .orElseThrow(() -> new NoEncontradoException("Administrador no encontrado"));
+        if (idsClubes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> pendientes = clubRepository.bloquearPendientes(idsClubes);
+        if (pendientes.isEmpty()) {
+            return pendientes;
+        }
+        LocalDateTime ahora = LocalDateTime.now();
+        if (estado == Club.EstadoClub.Activo) {
+            clubRepository.aprobarPendientes(pendientes, admin, ahora);
+        } else {
+            clubRepository.rechazarPendientes(pendientes, admin, ahora, observaciones);
+        }
+        eventPublisher.publishEvent(new ClubesValidadosEvent(pendientes, estado));
+        return pendientes;
     }
 
     /**
-     * Listar todos los clubes
+     * Listar todos los clubes (paginado por cursor)
      */
-    public List<Club> listarTodos() {
-        return clubRepository.findAll();
+    @Transactional(readOnly = true)
+    public PaginaCursor<Club> listarTodos(Integer despuesDe, Integer limite) {
+        int tamanio = PaginaCursor.normalizarLimite(limite);
+        List<Club> filas = clubRepository.findByIdClubGreaterThanOrderByIdClubAsc(
+                PaginaCursor.cursorInicial(despuesDe), Limit.of(tamanio + 1));
+        return PaginaCursor.de(filas, tamanio, Club::getIdClub);
     }
 
     /**
      * Listar clubes por estado
      */
+    @Transactional(readOnly = true)
     public List<Club> listarPorEstado(Club.EstadoClub estado) {
         return clubRepository.findByEstado(estado);
     }
@@ -102,12 +171,15 @@ public class ClubService {
     /**
      * Listar clubes pendientes (para validación)
      */
+    @Transactional(readOnly = true)
     public List<Club> listarPendientes() {
         return clubRepository.findByEstado(Club.EstadoClub.Pendiente);
     }
 
     /**
      * Listar clubes activos
+     * Lee de la primaria: CacheRespuestas guarda el resultado con la versión actual y una réplica
+     * atrasada dejaría datos viejos bajo la versión nueva
      */
     public List<Club> listarActivos() {
         return clubRepository.findByEstado(Club.EstadoClub.Activo);
@@ -116,6 +188,7 @@ public class ClubService {
     /**
      * Buscar club por ID
      */
+    @Transactional(readOnly = true)
     public Optional<Club> buscarPorId(Integer id) {
         return clubRepository.findById(id);
     }
@@ -125,7 +198,7 @@ public class ClubService {
      */
     public Club actualizarClub(Integer idClub, Club clubActualizado) {
         Club club = clubRepository.findById(idClub)
-                .orElseThrow(() -> new RuntimeException("Club no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Club no encontrado"));
         
         club.setNombreClub(clubActualizado.getNombreClub());
         club.setRepresentante(clubActualizado.getRepresentante());
@@ -133,7 +206,7 @@ public class ClubService {
         club.setTelefono(clubActualizado.getTelefono());
         club.setDireccion(clubActualizado.getDireccion());
         
-        return clubRepository.save(club);
+        return publicarCambio(registrarUnicos(clubRepository.save(club)));
     }
 
     /**
@@ -141,8 +214,20 @@ public class ClubService {
      */
     public void eliminarClub(Integer idClub) {
         if (!clubRepository.existsById(idClub)) {
-            throw new RuntimeException("Club no encontrado");
+            throw new NoEncontradoException("Club no encontrado");
         }
         clubRepository.deleteById(idClub);
+        eventPublisher.publishEvent(new ClubCambiadoEvent(idClub, null));
+    }
+
+    private Club registrarUnicos(Club club) {
+        filtrosUnicidad.registrar(Clave.NombreClub, club.getNombreClub());
+        filtrosUnicidad.registrar(Clave.CorreoClub, club.getCorreoRepresentante());
+        return club;
+    }
+
+    private Club publicarCambio(Club club) {
+        eventPublisher.publishEvent(new ClubCambiadoEvent(club.getIdClub(), club));
+        return club;
     }
 }
\ No newline at end of file
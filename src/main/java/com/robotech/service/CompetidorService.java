@@ -1,22 +1,48 @@
 package com.robotech.service;
 
+import com.robotech.busqueda.IndiceBusqueda;
+import com.robotech.dto.FichaCompetidor;
+import com.robotech.dto.PaginaCursor;
+import com.robotech.dto.ResultadoInscripcionMasiva;
+import com.robotech.event.CompetidoresCambiadosEvent;
+import com.robotech.exception.ConflictoException;
+import com.robotech.exception.NoEncontradoException;
+import com.robotech.exception.ValidacionException;
 import com.robotech.model.Categoria;
 import com.robotech.model.Club;
 import com.robotech.model.Competidor;
-import com.robotech.repository.CategoriaRepository;
 import com.robotech.repository.ClubRepository;
 import com.robotech.repository.CompetidorRepository;
+import com.robotech.unicidad.FiltrosUnicidad;
+import com.robotech.unicidad.FiltrosUnicidad.Clave;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
+@Timed(value = "robotech.servicio", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class CompetidorService {
 
+    public static final int MAXIMO_INSCRIPCION_MASIVA = 10000;
+
+    public static final int LIMITE_BUSQUEDA = 20;
+    public static final int LIMITE_MAXIMO_BUSQUEDA = 100;
+
+    private static final int DOCUMENTOS_POR_CONSULTA = 1000;
+
     @Autowired
     private CompetidorRepository competidorRepository;
     
@@ -24,64 +50,162 @@ public class CompetidorService {
     private ClubRepository clubRepository;
     
     @Autowired
-    private CategoriaRepository categoriaRepository;
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @Autowired
+    private IndiceBusqueda indiceBusqueda;
+
+    @Autowired
+    private FiltrosUnicidad filtrosUnicidad;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * CU05: Inscribir Competidor
      */
     public Competidor inscribirCompetidor(Competidor competidor) {
-        // Validar que el club existe y está activo
-        Club club = clubRepository.findById(competidor.getClub().getIdClub())
-                .orElseThrow(() -> new RuntimeException("Club no encontrado"));
+        Club club = clubRepository.findById(competidor.getClub().getIdClub()).orElse(null);
+        Categoria categoria = club != null
+                ? categoriaService.buscarPorId(competidor.getCategoria().getIdCategoria()).orElse(null)
+                : null;
 
-        if (club.getEstado() != Club.EstadoClub.Activo) {
-            throw new RuntimeException("El club no está activo. Debe ser validado primero.");
+        String error = ValidadorInscripcion.validar(competidor, club, categoria);
+        if (error != null) {
+            throw new ValidacionException(error);
         }
 
-        // Validar que la categoría existe y está activa
-        Categoria categoria = categoriaRepository.findById(competidor.getCategoria().getIdCategoria())
-                .orElseThrow(() -> new RuntimeException("Categoría no encontrada"));
-
-        if (!categoria.getActivo()) {
-            throw new RuntimeException("La categoría no está activa");
+        // Validar que el DNI no esté duplicado (el filtro evita la consulta si seguro es nuevo)
+        if (filtrosUnicidad.puedeExistir(Clave.DocumentoCompetidor, competidor.getDocumentoIdentidad())
+                && competidorRepository.existsByDocumentoIdentidad(competidor.getDocumentoIdentidad())) {
+            throw new ConflictoException(ValidadorInscripcion.mensajeDniDuplicado(competidor.getDocumentoIdentidad()));
         }
 
-        // Validar rango de edad si aplica
-        if (competidor.getEdad() != null && categoria.getEdadMinima() != null && categoria.getEdadMaxima() != null) {
-            if (competidor.getEdad() < categoria.getEdadMinima() || competidor.getEdad() > categoria.getEdadMaxima()) {
-                throw new RuntimeException("La edad del competidor no cumple con el rango de la categoría ("
-                        + categoria.getEdadMinima() + "-" + categoria.getEdadMaxima() + " años)");
+        competidor.setClub(club);
+        competidor.setCategoria(categoria);
+
+        Competidor guardado = competidorRepository.save(competidor);
+        filtrosUnicidad.registrar(Clave.DocumentoCompetidor, guardado.getDocumentoIdentidad());
+        estadisticasService.registrarAltas(List.of(guardado));
+        return publicarCambio(guardado);
+    }
+
+    /**
+     * Inscripción masiva de competidores
+     * Valida toda la lista en una pasada (clubes y categorías se cargan una sola vez,
+     * los DNI duplicados se buscan con IN, solo los que el filtro de unicidad no descarta) e inserta las filas válidas con JDBC batch.
+     * Las filas con error no se insertan y se reportan por posición.
+     */
+    public ResultadoInscripcionMasiva inscribirCompetidores(List<Competidor> competidores) {
+        ResultadoInscripcionMasiva resultado = new ResultadoInscripcionMasiva();
+        resultado.setTotal(competidores.size());
+
+        Set<Integer> idsClubes = new HashSet<>();
+        Set<Integer> idsCategorias = new HashSet<>();
+        Set<String> documentos = new HashSet<>();
+        for (Competidor competidor : competidores) {
+            if (competidor.getClub() != null && competidor.getClub().getIdClub() != null) {
+                idsClubes.add(competidor.getClub().getIdClub());
+            }
+            if (competidor.getCategoria() != null && competidor.getCategoria().getIdCategoria() != null) {
+                idsCategorias.add(competidor.getCategoria().getIdCategoria());
+            }
+            if (filtrosUnicidad.puedeExistir(Clave.DocumentoCompetidor, competidor.getDocumentoIdentidad())) {
+                documentos.add(competidor.getDocumentoIdentidad());
             }
         }
 
-        // Validar que el DNI no esté duplicado
-        if (competidorRepository.existsByDocumentoIdentidad(competidor.getDocumentoIdentidad())) {
-            throw new RuntimeException("Ya existe un competidor con el DNI " + competidor.getDocumentoIdentidad());
+        Map<Integer, Club> clubes = new HashMap<>();
+        for (Club club : clubRepository.findAllById(idsClubes)) {
+            clubes.put(club.getIdClub(), club);
         }
+        Map<Integer, Categoria> categorias = new HashMap<>();
+        for (Integer idCategoria : idsCategorias) {
+            categoriaService.buscarPorId(idCategoria).ifPresent(c -> categorias.put(idCategoria, c));
+        }
+        Set<String> registrados = buscarDocumentosRegistrados(documentos);
 
-        competidor.setClub(club);
-        competidor.setCategoria(categoria);
+        List<Competidor> validos = new ArrayList<>();
+        Set<String> documentosEnLote = new HashSet<>();
+        for (int fila = 0; fila < competidores.size(); fila++) {
+            Competidor competidor = competidores.get(fila);
+            Club club = competidor.getClub() != null ? clubes.get(competidor.getClub().getIdClub()) : null;
+            Categoria categoria = competidor.getCategoria() != null
+                    ? categorias.get(competidor.getCategoria().getIdCategoria())
+                    : null;
+
+            String error = ValidadorInscripcion.validar(competidor, club, categoria);
+            String documento = competidor.getDocumentoIdentidad();
+            if (error == null && documento != null
+                    && (registrados.contains(documento) || !documentosEnLote.add(documento))) {
+                error = ValidadorInscripcion.mensajeDniDuplicado(documento);
+            }
+
+            if (error != null) {
+                resultado.agregarError(fila, documento, error);
+                continue;
+            }
+            competidor.setIdCompetidor(null);
+            competidor.setClub(club);
+            competidor.setCategoria(categoria);
+            validos.add(competidor);
+        }
+
+        competidorRepository.insertarEnLote(validos);
+        estadisticasService.registrarAltas(validos);
+        List<FichaCompetidor> fichas = new ArrayList<>(validos.size());
+        for (Competidor competidor : validos) {
+            filtrosUnicidad.registrar(Clave.DocumentoCompetidor, competidor.getDocumentoIdentidad());
+            resultado.getIdsInscritos().add(competidor.getIdCompetidor());
+            fichas.add(FichaCompetidor.de(competidor));
+        }
+        if (!fichas.isEmpty()) {
+            eventPublisher.publishEvent(CompetidoresCambiadosEvent.guardados(fichas));
+        }
+        return resultado;
+    }
 
-        return competidorRepository.save(competidor);
+    private Set<String> buscarDocumentosRegistrados(Set<String> documentos) {
+        // IN por bloques para no enviar miles de parámetros en una sola sentencia
+        Set<String> registrados = new HashSet<>();
+        List<String> lista = new ArrayList<>(documentos);
+        for (int inicio = 0; inicio < lista.size(); inicio += DOCUMENTOS_POR_CONSULTA) {
+            registrados.addAll(competidorRepository.findDocumentosRegistrados(
+                    lista.subList(inicio, Math.min(inicio + DOCUMENTOS_POR_CONSULTA, lista.size()))));
+        }
+        return registrados;
     }
 
     /**
-     * Listar todos los competidores
+     * Listar todos los competidores (paginado por cursor)
      */
-    public List<Competidor> listarTodos() {
-        return competidorRepository.findAll();
+    @Transactional(readOnly = true)
+    public PaginaCursor<Competidor> listarTodos(Integer despuesDe, Integer limite) {
+        int tamanio = PaginaCursor.normalizarLimite(limite);
+        List<Competidor> filas = competidorRepository.findByIdCompetidorGreaterThanOrderByIdCompetidorAsc(
+                PaginaCursor.cursorInicial(despuesDe), Limit.of(tamanio + 1));
+        return PaginaCursor.de(filas, tamanio, Competidor::getIdCompetidor);
     }
 
     /**
-     * Listar competidores activos
+     * Listar competidores activos (paginado por cursor)
+     * Lee de la primaria: la respuesta lleva el ETag de la versión actual y una réplica atrasada
+     * dejaría filas viejas bajo la versión nueva (304 sobre datos viejos hasta el próximo cambio)
      */
-    public List<Competidor> listarActivos() {
-        return competidorRepository.findByActivoTrue();
+    public PaginaCursor<Competidor> listarActivos(Integer despuesDe, Integer limite) {
+        int tamanio = PaginaCursor.normalizarLimite(limite);
+        List<Competidor> filas = competidorRepository.findByActivoTrueAndIdCompetidorGreaterThanOrderByIdCompetidorAsc(
+                PaginaCursor.cursorInicial(despuesDe), Limit.of(tamanio + 1));
+        return PaginaCursor.de(filas, tamanio, Competidor::getIdCompetidor);
     }
 
     /**
      * Listar competidores por club
      */
+    @Transactional(readOnly = true)
     public List<Competidor> listarPorClub(Integer idClub) {
         return competidorRepository.findByClub_IdClub(idClub);
     }
@@ -89,6 +213,7 @@ public class CompetidorService {
     /**
      * Listar competidores por categoría
      */
+    @Transactional(readOnly = true)
     public List<Competidor> listarPorCategoria(Integer idCategoria) {
         return competidorRepository.findByCategoria_IdCategoria(idCategoria);
     }
@@ -96,6 +221,7 @@ public class CompetidorService {
     /**
      * Buscar competidor por ID
      */
+    @Transactional(readOnly = true)
     public Optional<Competidor> buscarPorId(Integer id) {
         return competidorRepository.findById(id);
     }
@@ -105,7 +231,7 @@ public class CompetidorService {
      */
     public Competidor actualizarCompetidor(Integer idCompetidor, Competidor competidorActualizado) {
         Competidor competidor = competidorRepository.findById(idCompetidor)
-                .orElseThrow(() -> new RuntimeException("Competidor no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Competidor no encontrado"));
         
         competidor.setNombre(competidorActualizado.getNombre());
         competidor.setApellido(competidorActualizado.getApellido());
@@ -115,8 +241,9 @@ public class CompetidorService {
         competidor.setCorreo(competidorActualizado.getCorreo());
         competidor.setTelefono(competidorActualizado.getTelefono());
         competidor.setNombreRobot(competidorActualizado.getNombreRobot());
+        filtrosUnicidad.registrar(Clave.DocumentoCompetidor, competidor.getDocumentoIdentidad());
         
-        return competidorRepository.save(competidor);
+        return publicarCambio(competidorRepository.save(competidor));
     }
 
     /**
@@ -124,19 +251,40 @@ public class CompetidorService {
      */
     public Competidor cambiarEstado(Integer idCompetidor, Boolean activo) {
         Competidor competidor = competidorRepository.findById(idCompetidor)
-                .orElseThrow(() -> new RuntimeException("Competidor no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Competidor no encontrado"));
         
+        boolean cambia = Boolean.TRUE.equals(competidor.getActivo()) != Boolean.TRUE.equals(activo);
         competidor.setActivo(activo);
-        return competidorRepository.save(competidor);
+        Competidor guardado = competidorRepository.save(competidor);
+        if (cambia) {
+            estadisticasService.registrarCambioEstado(guardado);
+        }
+        return publicarCambio(guardado);
     }
 
     /**
      * Eliminar competidor
      */
     public void eliminarCompetidor(Integer idCompetidor) {
-        if (!competidorRepository.existsById(idCompetidor)) {
-            throw new RuntimeException("Competidor no encontrado");
-        }
-        competidorRepository.deleteById(idCompetidor);
+        Competidor competidor = competidorRepository.findById(idCompetidor)
+                .orElseThrow(() -> new NoEncontradoException("Competidor no encontrado"));
+        competidorRepository.delete(competidor);
+        estadisticasService.registrarBaja(competidor);
+        eventPublisher.publishEvent(CompetidoresCambiadosEvent.eliminado(idCompetidor));
+    }
+
+    /**
+     * Buscar competidores por nombre, apellido, DNI o nombre del robot (prefijos, tolera un error)
+     * Se resuelve en el índice en memoria, sin consultar la base de datos
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<FichaCompetidor> buscar(String texto, Integer limite) {
+        int tamanio = limite == null || limite < 1 ? LIMITE_BUSQUEDA : Math.min(limite, LIMITE_MAXIMO_BUSQUEDA);
+        return indiceBusqueda.buscar(texto, tamanio);
+    }
+
+    private Competidor publicarCambio(Competidor competidor) {
+        eventPublisher.publishEvent(CompetidoresCambiadosEvent.guardados(List.of(FichaCompetidor.de(competidor))));
+        return competidor;
     }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.robotech.service;
+
+import com.robotech.model.Competidor;
+import com.robotech.model.ConteoCompetidores;
+import com.robotech.model.ConteoCompetidores.Ambito;
+import com.robotech.repository.CompetidorRepository;
+import com.robotech.repository.ConteoCompetidoresRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contadores de competidores por club y por categoría
+ * CompetidorService los actualiza dentro de su propia transacción, así un rollback también deshace el conteo.
+ * Las variaciones se aplican siempre en el mismo orden (clubes y luego categorías, por ID)
+ * para que dos inscripciones concurrentes no se bloqueen mutuamente.
+ */
+@Service
+@Transactional
+public class EstadisticasService {
+
+    private static final Logger log = LoggerFactory.getLogger(EstadisticasService.class);
+
+    private static final Comparator<ConteoCompetidores.Clave> ORDEN_CLAVES =
+            Comparator.comparing(ConteoCompetidores.Clave::getAmbito)
+                    .thenComparing(ConteoCompetidores.Clave::getIdAmbito);
+
+    @Autowired
+    private ConteoCompetidoresRepository conteoRepository;
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    /**
+     * Competidores nuevos (inscripción individual o masiva)
+     */
+    public void registrarAltas(Collection<Competidor> competidores) {
+        Map<ConteoCompetidores.Clave, long[]> variaciones = new TreeMap<>(ORDEN_CLAVES);
+        for (Competidor competidor : competidores) {
+            acumular(variaciones, competidor, 1, Boolean.TRUE.equals(competidor.getActivo()) ? 1 : 0);
+        }
+        aplicar(variaciones);
+    }
+
+    /**
+     * Competidor eliminado, con el estado que tenía antes de borrarse
+     */
+    public void registrarBaja(Competidor competidor) {
+        Map<ConteoCompetidores.Clave, long[]> variaciones = new TreeMap<>(ORDEN_CLAVES);
+        acumular(variaciones, competidor, -1, Boolean.TRUE.equals(competidor.getActivo()) ? -1 : 0);
+        aplicar(variaciones);
+    }
+
+    /**
+     * Competidor que pasó a activo o a inactivo (el estado recibido es el nuevo)
+     */
+    public void registrarCambioEstado(Competidor competidor) {
+        Map<ConteoCompetidores.Clave, long[]> variaciones = new TreeMap<>(ORDEN_CLAVES);
+        acumular(variaciones, competidor, 0, Boolean.TRUE.equals(competidor.getActivo()) ? 1 : -1);
+        aplicar(variaciones);
+    }
+
+    /**
+     * Conteo de un club (en cero si todavía no tiene competidores)
+     */
+    @Transactional(readOnly = true)
+    public ConteoCompetidores conteoClub(Integer idClub) {
+        return buscar(Ambito.Club, idClub);
+    }
+
+    /**
+     * Conteo de una categoría (en cero si todavía no tiene competidores)
+     */
+    @Transactional(readOnly = true)
+    public ConteoCompetidores conteoCategoria(Integer idCategoria) {
+        return buscar(Ambito.Categoria, idCategoria);
+    }
+
+    /**
+     * Conteos de todos los clubes o de todas las categorías
+     */
+    @Transactional(readOnly = true)
+    public List<ConteoCompetidores> listarConteos(Ambito ambito) {
+        return conteoRepository.findByAmbitoOrderByIdAmbitoAsc(ambito);
+    }
+
+    /**
+     * Recalcula los contadores desde la tabla competidor y corrige los que se desviaron
+     * Los contadores se bloquean antes de contar: una inscripción en curso espera a que termine la
+     * reconciliación y recién entonces suma, así su variación no se pierde ni se cuenta dos veces.
+     * La primera ejecución (al arrancar) también llena los contadores de una base con datos previos.
+     *
+     * @return cantidad de contadores corregidos
+     */
+    @Scheduled(fixedDelayString = "${robotech.estadisticas.reconciliacion-ms:3600000}")
+    public int reconciliar() {
+        Map<ConteoCompetidores.Clave, ConteoCompetidores> actuales = new HashMap<>();
+        for (ConteoCompetidores conteo : conteoRepository.bloquearTodos()) {
+            actuales.put(new ConteoCompetidores.Clave(conteo.getAmbito(), conteo.getIdAmbito()), conteo);
+        }
+
+        Map<ConteoCompetidores.Clave, long[]> reales = new HashMap<>();
+        agregarFilas(reales, Ambito.Club, competidorRepository.contarPorClub());
+        agregarFilas(reales, Ambito.Categoria, competidorRepository.contarPorCategoria());
+
+        List<ConteoCompetidores> corregidos = new ArrayList<>();
+        reales.forEach((clave, real) -> {
+            ConteoCompetidores conteo = actuales.remove(clave);
+            if (conteo == null) {
+                conteo = new ConteoCompetidores(clave.getAmbito(), clave.getIdAmbito(), 0L, 0L);
+            }
+            if (conteo.getTotal() != real[0] || conteo.getActivos() != real[1]) {
+                conteo.setTotal(real[0]);
+                conteo.setActivos(real[1]);
+                corregidos.add(conteo);
+            }
+        });
+        // Lo que queda tiene contador pero ya no tiene competidores
+        for (ConteoCompetidores conteo : actuales.values()) {
+            if (conteo.getTotal() != 0 || conteo.getActivos() != 0) {
+                conteo.setTotal(0L);
+                conteo.setActivos(0L);
+                corregidos.add(conteo);
+            }
+        }
+
+        if (!corregidos.isEmpty()) {
+            conteoRepository.saveAll(corregidos);
+            log.info("Reconciliación de contadores: {} corregidos", corregidos.size());
+        }
+        return corregidos.size();
+    }
+
+    private ConteoCompetidores buscar(Ambito ambito, Integer id) {
+        return conteoRepository.findById(new ConteoCompetidores.Clave(ambito, id))
+                .orElseGet(() -> new ConteoCompetidores(ambito, id, 0L, 0L));
+    }
+
+    private static void acumular(Map<ConteoCompetidores.Clave, long[]> variaciones, Competidor competidor,
+                                 long total, long activos) {
+        sumar(variaciones, new ConteoCompetidores.Clave(Ambito.Club, competidor.getClub().getIdClub()), total, activos);
+        sumar(variaciones, new ConteoCompetidores.Clave(Ambito.Categoria, competidor.getCategoria().getIdCategoria()),
+                total, activos);
+    }
+
+    private static void sumar(Map<ConteoCompetidores.Clave, long[]> variaciones, ConteoCompetidores.Clave clave,
+                              long total, long activos) {
+        long[] variacion = variaciones.computeIfAbsent(clave, c -> new long[2]);
+        variacion[0] += total;
+        variacion[1] += activos;
+    }
+
+    private void aplicar(Map<ConteoCompetidores.Clave, long[]> variaciones) {
+        List<ConteoCompetidores> filas = new ArrayList<>(variaciones.size());
+        variaciones.forEach((clave, variacion) -> {
+            if (variacion[0] != 0 || variacion[1] != 0) {
+                filas.add(new ConteoCompetidores(clave.getAmbito(), clave.getIdAmbito(), variacion[0], variacion[1]));
+            }
+        });
+        if (!filas.isEmpty()) {
+            conteoRepository.sumarEnLote(filas);
+        }
+    }
+
+    private static void agregarFilas(Map<ConteoCompetidores.Clave, long[]> reales, Ambito ambito, List<Object[]> filas) {
+        for (Object[] fila : filas) {
+            long activos = fila[2] != null ? ((Number) fila[2]).longValue() : 0;
+            reales.put(new ConteoCompetidores.Clave(ambito, (Integer) fila[0]),
+                    new long[]{((Number) fila[1]).longValue(), activos});
+        }
+    }
+}
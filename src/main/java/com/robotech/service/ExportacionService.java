@@ -0,0 +1,178 @@
+package com.robotech.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.robotech.exception.ValidacionException;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+import com.robotech.repository.ClubRepository;
+import com.robotech.repository.CompetidorRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exportación masiva de competidores y clubes en NDJSON o CSV
+ * Las filas se leen con un cursor y se escriben una a una, el contexto de persistencia
+ * se limpia cada cierto número de filas para que el uso de memoria no dependa del total
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportacionService {
+
+    private static final int FILAS_POR_LOTE = 500;
+
+    private static final List<Columna<Competidor>> COLUMNAS_COMPETIDOR = List.of(
+            new Columna<>("idCompetidor", Competidor::getIdCompetidor),
+            new Columna<>("nombre", Competidor::getNombre),
+            new Columna<>("apellido", Competidor::getApellido),
+            new Columna<>("documentoIdentidad", Competidor::getDocumentoIdentidad),
+            new Columna<>("fechaNacimiento", Competidor::getFechaNacimiento),
+            new Columna<>("edad", Competidor::getEdad),
+            new Columna<>("correo", Competidor::getCorreo),
+            new Columna<>("telefono", Competidor::getTelefono),
+            new Columna<>("idClub", c -> c.getClub().getIdClub()),
+            new Columna<>("nombreClub", c -> c.getClub().getNombreClub()),
+            new Columna<>("idCategoria", c -> c.getCategoria().getIdCategoria()),
+            new Columna<>("nombreCategoria", c -> c.getCategoria().getNombreCategoria()),
+            new Columna<>("nombreRobot", Competidor::getNombreRobot),
+            new Columna<>("fechaInscripcion", Competidor::getFechaInscripcion),
+            new Columna<>("activo", Competidor::getActivo)
+    );
+
+    private static final List<Columna<Club>> COLUMNAS_CLUB = List.of(
+            new Columna<>("idClub", Club::getIdClub),
+            new Columna<>("nombreClub", Club::getNombreClub),
+            new Columna<>("representante", Club::getRepresentante),
+            new Columna<>("correoRepresentante", Club::getCorreoRepresentante),
+            new Columna<>("telefono", Club::getTelefono),
+            new Columna<>("direccion", Club::getDireccion),
+            new Columna<>("estado", Club::getEstado),
+            new Columna<>("fechaRegistro", Club::getFechaRegistro),
+            new Columna<>("fechaValidacion", Club::getFechaValidacion)
+    );
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Exportar todos los competidores
+     */
+    public void exportarCompetidores(OutputStream salida, Formato formato) throws IOException {
+        try (Stream<Competidor> filas = competidorRepository.streamTodos()) {
+            escribir(filas.iterator(), COLUMNAS_COMPETIDOR, formato, salida);
+        }
+    }
+
+    /**
+     * Exportar todos los clubes
+     */
+    public void exportarClubes(OutputStream salida, Formato formato) throws IOException {
+        try (Stream<Club> filas = clubRepository.streamTodos()) {
+            escribir(filas.iterator(), COLUMNAS_CLUB, formato, salida);
+        }
+    }
+
+    private <T> void escribir(Iterator<T> filas, List<Columna<T>> columnas, Formato formato, OutputStream salida)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        JsonGenerator json = null;
+
+        if (formato == Formato.NDJSON) {
+            json = objectMapper.createGenerator(writer);
+            json.setRootValueSeparator(null);
+        } else {
+            escribirLineaCsv(writer, columnas, Columna::nombre);
+        }
+
+        int escritas = 0;
+        while (filas.hasNext()) {
+            T fila = filas.next();
+            if (json != null) {
+                json.writeStartObject();
+                for (Columna<T> columna : columnas) {
+                    json.writeObjectField(columna.nombre(), columna.valor().apply(fila));
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } else {
+                escribirLineaCsv(writer, columnas, columna -> columna.valor().apply(fila));
+            }
+
+            if (++escritas % FILAS_POR_LOTE == 0) {
+                // Liberar las entidades ya escritas y enviar lo acumulado al cliente
+                entityManager.clear();
+                if (json != null) {
+                    json.flush();
+                } else {
+                    writer.flush();
+                }
+            }
+        }
+
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    private <T> void escribirLineaCsv(Writer writer, List<Columna<T>> columnas, Function<Columna<T>, Object> valor)
+            throws IOException {
+        for (int i = 0; i < columnas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object dato = valor.apply(columnas.get(i));
+            if (dato != null) {
+                writer.write(escaparCsv(dato.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escaparCsv(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    private record Columna<T>(String nombre, Function<T, Object> valor) {
+    }
+
+    public enum Formato {
+        NDJSON,
+        CSV;
+
+        public static Formato desde(String valor) {
+            for (Formato formato : values()) {
+                if (formato.name().equalsIgnoreCase(valor)) {
+                    return formato;
+                }
+            }
+            throw new ValidacionException("Formato de exportación no soportado: " + valor);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.robotech.service;
+
+import com.robotech.dto.Participante;
+import com.robotech.exception.ValidacionException;
+import com.robotech.model.Enfrentamiento;
+import com.robotech.model.Enfrentamiento.EstadoEnfrentamiento;
+import com.robotech.model.Enfrentamiento.Llave;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generación de llaves de torneo (eliminación simple, doble y suizo)
+ * No accede a la base de datos: recibe los participantes en orden de siembra y devuelve
+ * los enfrentamientos numerados, listos para insertarse en lote. Todo es O(n log n).
+ *
+ * Separación por club en eliminación: los participantes se agrupan por club (el más numeroso primero)
+ * y el i-ésimo se coloca en la posición bit-reverse(i) del cuadro. Dos posiciones consecutivas de la
+ * lista quedan en mitades opuestas, así dos compañeros de un club de k integrantes no se cruzan
+ * antes de las últimas ⌈log2 k⌉ rondas (lo mínimo posible). Los byes ocupan el final de la lista,
+ * por lo que nunca se enfrentan dos byes.
+ */
+public final class GeneradorLlaves {
+
+    // Competidores libres que se revisan por delante al emparejar una ronda suiza
+    private static final int VENTANA_SUIZA = 8;
+
+    private GeneradorLlaves() {
+    }
+
+    /**
+     * Rondas de la llave principal para n participantes (⌈log2 n⌉)
+     */
+    public static int rondas(int participantes) {
+        return participantes <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(participantes - 1);
+    }
+
+    public static List<Enfrentamiento> eliminacionSimple(List<Participante> participantes) {
+        Llaves llaves = new Llaves(1);
+        llavePrincipal(llaves, participantes);
+        llaves.resolverByes();
+        return llaves.enfrentamientos;
+    }
+
+    /**
+     * Llave de ganadores + llave de perdedores + gran final (sin partido de desempate)
+     * Los perdedores de cada ronda de ganadores entran en orden inverso para demorar revanchas.
+     */
+    public static List<Enfrentamiento> eliminacionDoble(List<Participante> participantes) {
+        Llaves llaves = new Llaves(1);
+        List<List<Enfrentamiento>> principal = llavePrincipal(llaves, participantes);
+        Enfrentamiento finalPrincipal = principal.get(principal.size() - 1).get(0);
+
+        Enfrentamiento finalPerdedores = null;
+        if (principal.size() >= 2) {
+            int ronda = 1;
+            List<Enfrentamiento> primera = principal.get(0);
+            List<Enfrentamiento> anterior = new ArrayList<>(primera.size() / 2);
+            for (int q = 0; q < primera.size() / 2; q++) {
+                Enfrentamiento enfrentamiento = llaves.nuevo(Llave.Perdedores, ronda, q);
+                primera.get(2 * q).setSiguientePerdedor(enfrentamiento.getNumero());
+                primera.get(2 * q + 1).setSiguientePerdedor(enfrentamiento.getNumero());
+                anterior.add(enfrentamiento);
+            }
+
+            for (int k = 1; k < principal.size(); k++) {
+                // Ganadores de la llave de perdedores contra los que caen de la ronda k + 1
+                List<Enfrentamiento> caen = principal.get(k);
+                List<Enfrentamiento> cruce = new ArrayList<>(anterior.size());
+                ronda++;
+                for (int q = 0; q < anterior.size(); q++) {
+                    Enfrentamiento enfrentamiento = llaves.nuevo(Llave.Perdedores, ronda, q);
+                    anterior.get(q).setSiguienteGanador(enfrentamiento.getNumero());
+                    caen.get(caen.size() - 1 - q).setSiguientePerdedor(enfrentamiento.getNumero());
+                    cruce.add(enfrentamiento);
+                }
+                anterior = cruce;
+
+                if (k < principal.size() - 1) {
+                    ronda++;
+                    List<Enfrentamiento> siguiente = new ArrayList<>(anterior.size() / 2);
+                    for (int q = 0; q < anterior.size() / 2; q++) {
+                        Enfrentamiento enfrentamiento = llaves.nuevo(Llave.Perdedores, ronda, q);
+                        anterior.get(2 * q).setSiguienteGanador(enfrentamiento.getNumero());
+                        anterior.get(2 * q + 1).setSiguienteGanador(enfrentamiento.getNumero());
+                        siguiente.add(enfrentamiento);
+                    }
+                    anterior = siguiente;
+                }
+            }
+            finalPerdedores = anterior.get(0);
+        }
+
+        Enfrentamiento granFinal = llaves.nuevo(Llave.GranFinal, 1, 0);
+        finalPrincipal.setSiguienteGanador(granFinal.getNumero());
+        if (finalPerdedores != null) {
+            finalPerdedores.setSiguienteGanador(granFinal.getNumero());
+        } else {
+            // Con dos participantes no hay llave de perdedores
+            finalPrincipal.setSiguientePerdedor(granFinal.getNumero());
+        }
+
+        llaves.resolverByes();
+        return llaves.enfrentamientos;
+    }
+
+    /**
+     * Primera ronda suiza: la mitad superior de la siembra contra la inferior (1 vs n/2+1, 2 vs n/2+2...)
+     */
+    public static List<Enfrentamiento> suizoPrimeraRonda(List<Participante> participantes) {
+        int mitad = (participantes.size() + 1) / 2;
+        List<Participante> orden = new ArrayList<>(participantes.size());
+        for (int i = 0; i < mitad; i++) {
+            orden.add(participantes.get(i));
+            if (i + mitad < participantes.size()) {
+                orden.add(participantes.get(i + mitad));
+            }
+        }
+        return rondaSuiza(orden, Set.of(), 1, 1);
+    }
+
+    /**
+     * Empareja una ronda suiza
+     * Cada competidor, en orden de clasificación, se enfrenta al siguiente libre que no haya enfrentado antes,
+     * prefiriendo uno de otro club dentro de una ventana corta. Si el número es impar el último recibe bye.
+     *
+     * @param clasificacion competidores ordenados por puntaje descendente
+     * @param previos       pares ya jugados, ver {@link #clavePar(Integer, Integer)}
+     * @param primerNumero  número del primer enfrentamiento (continúa la numeración del torneo)
+     */
+    public static List<Enfrentamiento> rondaSuiza(List<Participante> clasificacion, Set<Long> previos,
+                                                  int ronda, int primerNumero) {
+        Llaves llaves = new Llaves(primerNumero);
+        int n = clasificacion.size();
+        boolean[] emparejado = new boolean[n];
+        int posicion = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (emparejado[i]) {
+                continue;
+            }
+            Participante actual = clasificacion.get(i);
+            int elegido = -1;
+            int sinRevancha = -1;
+            int primerLibre = -1;
+            for (int j = i + 1, revisados = 0; j < n && revisados < VENTANA_SUIZA; j++) {
+                if (emparejado[j]) {
+                    continue;
+                }
+                revisados++;
+                Participante rival = clasificacion.get(j);
+                if (primerLibre < 0) {
+                    primerLibre = j;
+                }
+                if (previos.contains(clavePar(actual.idCompetidor(), rival.idCompetidor()))) {
+                    continue;
+                }
+                if (sinRevancha < 0) {
+                    sinRevancha = j;
+                }
+                if (!actual.idClub().equals(rival.idClub())) {
+                    elegido = j;
+                    break;
+                }
+            }
+            if (elegido < 0) {
+                elegido = sinRevancha >= 0 ? sinRevancha : primerLibre;
+            }
+
+            Enfrentamiento enfrentamiento = llaves.nuevo(Llave.Principal, ronda, posicion++);
+            enfrentamiento.setIdCompetidorA(actual.idCompetidor());
+            emparejado[i] = true;
+            if (elegido >= 0) {
+                enfrentamiento.setIdCompetidorB(clasificacion.get(elegido).idCompetidor());
+                emparejado[elegido] = true;
+            } else {
+                enfrentamiento.setEstado(EstadoEnfrentamiento.Bye);
+                enfrentamiento.setIdGanador(actual.idCompetidor());
+            }
+        }
+        return llaves.enfrentamientos;
+    }
+
+    /**
+     * Clave de un par de competidores, independiente del orden
+     */
+    public static long clavePar(Integer a, Integer b) {
+        int menor = Math.min(a, b);
+        int mayor = Math.max(a, b);
+        return ((long) menor << 32) | (mayor & 0xffffffffL);
+    }
+
+    /**
+     * Agrupa por club conservando la siembra dentro de cada club; los clubes más numerosos primero
+     */
+    static List<Participante> separarPorClub(List<Participante> participantes) {
+        Map<Integer, List<Participante>> porClub = new LinkedHashMap<>();
+        for (Participante participante : participantes) {
+            porClub.computeIfAbsent(participante.idClub(), id -> new ArrayList<>()).add(participante);
+        }
+        List<List<Participante>> grupos = new ArrayList<>(porClub.values());
+        grupos.sort(Comparator.comparingInt((List<Participante> grupo) -> grupo.size()).reversed());
+
+        List<Participante> orden = new ArrayList<>(participantes.size());
+        for (List<Participante> grupo : grupos) {
+            orden.addAll(grupo);
+        }
+        return orden;
+    }
+
+    private static List<List<Enfrentamiento>> llavePrincipal(Llaves llaves, List<Participante> participantes) {
+        if (participantes.size() < 2) {
+            throw new ValidacionException("Se necesitan al menos 2 competidores para generar la llave");
+        }
+        int bits = rondas(participantes.size());
+        Integer[] cuadro = new Integer[1 << bits];
+        List<Participante> orden = separarPorClub(participantes);
+        for (int i = 0; i < orden.size(); i++) {
+            cuadro[Integer.reverse(i) >>> (32 - bits)] = orden.get(i).idCompetidor();
+        }
+
+        List<List<Enfrentamiento>> rondas = new ArrayList<>(bits);
+        for (int ronda = 1, partidos = cuadro.length / 2; partidos >= 1; ronda++, partidos /= 2) {
+            List<Enfrentamiento> actual = new ArrayList<>(partidos);
+            for (int p = 0; p < partidos; p++) {
+                Enfrentamiento enfrentamiento = llaves.nuevo(Llave.Principal, ronda, p);
+                if (ronda == 1) {
+                    enfrentamiento.setIdCompetidorA(cuadro[2 * p]);
+                    enfrentamiento.setIdCompetidorB(cuadro[2 * p + 1]);
+                } else {
+                    List<Enfrentamiento> previa = rondas.get(ronda - 2);
+                    previa.get(2 * p).setSiguienteGanador(enfrentamiento.getNumero());
+                    previa.get(2 * p + 1).setSiguienteGanador(enfrentamiento.getNumero());
+                }
+                actual.add(enfrentamiento);
+            }
+            rondas.add(actual);
+        }
+        return rondas;
+    }
+
+    /**
+     * Enfrentamientos de un torneo numerados en orden topológico (cada uno después de los que lo alimentan)
+     */
+    private static final class Llaves {
+
+        private final List<Enfrentamiento> enfrentamientos = new ArrayList<>();
+        private final int primerNumero;
+
+        private Llaves(int primerNumero) {
+            this.primerNumero = primerNumero;
+        }
+
+        private Enfrentamiento nuevo(Llave llave, int ronda, int posicion) {
+            Enfrentamiento enfrentamiento = new Enfrentamiento();
+            enfrentamiento.setNumero(primerNumero + enfrentamientos.size());
+            enfrentamiento.setLlave(llave);
+            enfrentamiento.setRonda(ronda);
+            enfrentamiento.setPosicion(posicion);
+            enfrentamiento.setEstado(EstadoEnfrentamiento.Pendiente);
+            enfrentamientos.add(enfrentamiento);
+            return enfrentamiento;
+        }
+
+        private Enfrentamiento porNumero(int numero) {
+            return enfrentamientos.get(numero - primerNumero);
+        }
+
+        /**
+         * Marca como Bye los enfrentamientos a los que llegará menos de dos competidores
+         * y adelanta a la siguiente ronda a quien ya se sabe que pasa sin jugar
+         */
+        private void resolverByes() {
+            int[] pendientes = new int[enfrentamientos.size()];
+            for (int i = 0; i < enfrentamientos.size(); i++) {
+                Enfrentamiento enfrentamiento = enfrentamientos.get(i);
+                Integer a = enfrentamiento.getIdCompetidorA();
+                Integer b = enfrentamiento.getIdCompetidorB();
+                int posibles = pendientes[i] + (a != null ? 1 : 0) + (b != null ? 1 : 0);
+                Integer siguienteGanador = enfrentamiento.getSiguienteGanador();
+
+                if (posibles < 2) {
+                    enfrentamiento.setEstado(EstadoEnfrentamiento.Bye);
+                    Integer unico = a != null ? a : b;
+                    if (unico != null) {
+                        enfrentamiento.setIdGanador(unico);
+                        if (siguienteGanador != null) {
+                            colocar(porNumero(siguienteGanador), unico);
+                        }
+                        continue;
+                    }
+                }
+                if (posibles >= 1 && siguienteGanador != null) {
+                    pendientes[siguienteGanador - primerNumero]++;
+                }
+                if (posibles == 2 && enfrentamiento.getSiguientePerdedor() != null) {
+                    pendientes[enfrentamiento.getSiguientePerdedor() - primerNumero]++;
+                }
+            }
+        }
+
+        private static void colocar(Enfrentamiento destino, Integer idCompetidor) {
+            if (destino.getIdCompetidorA() == null) {
+                destino.setIdCompetidorA(idCompetidor);
+            } else {
+                destino.setIdCompetidorB(idCompetidor);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.robotech.service;
+
+import com.robotech.event.CategoriaCambiadaEvent;
+import com.robotech.model.Categoria;
+import com.robotech.repository.CategoriaRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice en memoria de las categorías activas por rango de edad
+ * Se carga una vez al iniciar y luego se actualiza categoría por categoría con los cambios confirmados,
+ * las consultas nunca recorren la tabla. Una categoría sin edad mínima o máxima admite cualquier edad
+ * (igual que en {@link ValidadorInscripcion}).
+ */
+@Component
+public class IndiceEdadesCategoria {
+
+    // Versión publicada del árbol: los lectores no toman locks
+    private volatile ArbolIntervalos<Categoria> arbol = ArbolIntervalos.vacio();
+
+    // Inicio con el que está indexada cada categoría, necesario para quitarla (protegido por this)
+    private final Map<Integer, Integer> inicioPorCategoria = new HashMap<>();
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @PostConstruct
+    public void cargar() {
+        // La consulta fuera del monitor: un hilo virtual bloqueado en I/O dentro de synchronized fija su carrier
+        List<Categoria> activas = categoriaRepository.findByActivoTrue();
+        synchronized (this) {
+            for (Categoria categoria : activas) {
+                indexar(categoria);
+            }
+        }
+    }
+
+    /**
+     * Categorías activas cuyo rango de edad incluye la edad indicada, ordenadas por edad mínima
+     */
+    public List<Categoria> elegibles(int edad) {
+        return arbol.contienen(edad);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void aplicar(CategoriaCambiadaEvent evento) {
+        Integer inicio = inicioPorCategoria.remove(evento.idCategoria());
+        if (inicio != null) {
+            arbol = arbol.eliminar(inicio, evento.idCategoria());
+        }
+        Categoria categoria = evento.categoria();
+        if (categoria != null && Boolean.TRUE.equals(categoria.getActivo())) {
+            indexar(categoria);
+        }
+    }
+
+    private void indexar(Categoria categoria) {
+        boolean conRango = categoria.getEdadMinima() != null && categoria.getEdadMaxima() != null;
+        int inicio = conRango ? categoria.getEdadMinima() : Integer.MIN_VALUE;
+        int fin = conRango ? categoria.getEdadMaxima() : Integer.MAX_VALUE;
+        arbol = arbol.insertar(inicio, fin, categoria.getIdCategoria(), categoria);
+        inicioPorCategoria.put(categoria.getIdCategoria(), inicio);
+    }
+}
@@ -0,0 +1,188 @@
+package com.robotech.service;
+
+import com.robotech.dto.PosicionRanking;
+import com.robotech.dto.UbicacionCompetidor;
+import com.robotech.ranking.Clasificacion;
+import com.robotech.ranking.DifusionRanking;
+import com.robotech.ranking.DifusionRanking.Canal;
+import com.robotech.repository.CategoriaRepository;
+import com.robotech.repository.ClubRepository;
+import com.robotech.repository.CompetidorRepository;
+import com.robotech.repository.ResultadoRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranking en vivo por categoría y por club
+ * Se mantiene solo en memoria: al iniciar se reconstruye con los resultados guardados
+ * y luego la ingesta de resultados le suma los puntos de cada lote confirmado.
+ */
+@Service
+public class RankingService {
+
+    public static final int LIMITE_POR_DEFECTO = 10;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private static final int IDS_POR_CONSULTA = 1000;
+
+    private final Map<Integer, Clasificacion> porCategoria = new ConcurrentHashMap<>();
+    private final Map<Integer, Clasificacion> porClub = new ConcurrentHashMap<>();
+
+    // El club y la categoría de un competidor no cambian después de inscribirse
+    private final Map<Integer, UbicacionCompetidor> ubicaciones = new ConcurrentHashMap<>();
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    @Autowired
+    private ResultadoRepository resultadoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private DifusionRanking difusionRanking;
+
+    /**
+     * Carga los puntos guardados antes de que la ingesta empiece a confirmar resultados nuevos
+     */
+    @PostConstruct
+    public void reconstruir() {
+        Map<Integer, Long> puntos = new HashMap<>();
+        for (Object[] fila : resultadoRepository.sumarPuntosPorCompetidor()) {
+            puntos.put((Integer) fila[0], ((Number) fila[1]).longValue());
+        }
+        if (!puntos.isEmpty()) {
+            sumarPuntos(puntos);
+        }
+    }
+
+    /**
+     * Suma puntos a un competidor en la clasificación de su categoría y de su club
+     */
+    public void sumarPuntos(Integer idCompetidor, long puntos) {
+        sumarPuntos(Map.of(idCompetidor, puntos));
+    }
+
+    /**
+     * Suma puntos a varios competidores; club y categoría de los que no se conocían se consultan juntos
+     */
+    public void sumarPuntos(Map<Integer, Long> puntosPorCompetidor) {
+        List<Integer> desconocidos = new ArrayList<>();
+        for (Integer idCompetidor : puntosPorCompetidor.keySet()) {
+            if (!ubicaciones.containsKey(idCompetidor)) {
+                desconocidos.add(idCompetidor);
+            }
+        }
+        // IN por bloques: al reconstruir pueden ser todos los competidores
+        for (int inicio = 0; inicio < desconocidos.size(); inicio += IDS_POR_CONSULTA) {
+            List<Integer> bloque = desconocidos.subList(inicio, Math.min(inicio + IDS_POR_CONSULTA, desconocidos.size()));
+            for (UbicacionCompetidor ubicacion : competidorRepository.findUbicaciones(bloque)) {
+                ubicaciones.put(ubicacion.idCompetidor(), ubicacion);
+            }
+        }
+
+        for (Map.Entry<Integer, Long> entrada : puntosPorCompetidor.entrySet()) {
+            UbicacionCompetidor ubicacion = ubicaciones.get(entrada.getKey());
+            if (ubicacion == null) {
+                continue;
+            }
+            sumar(DifusionRanking.CATEGORIA, ubicacion.idCategoria(), porCategoria, entrada.getKey(), entrada.getValue());
+            sumar(DifusionRanking.CLUB, ubicacion.idClub(), porClub, entrada.getKey(), entrada.getValue());
+        }
+    }
+
+    /**
+     * Si el competidor existe; su ubicación queda en memoria, así solo su primer resultado consulta la base
+     */
+    public boolean existeCompetidor(Integer idCompetidor) {
+        if (ubicaciones.containsKey(idCompetidor)) {
+            return true;
+        }
+        for (UbicacionCompetidor ubicacion : competidorRepository.findUbicaciones(List.of(idCompetidor))) {
+            ubicaciones.put(ubicacion.idCompetidor(), ubicacion);
+        }
+        return ubicaciones.containsKey(idCompetidor);
+    }
+
+    public List<PosicionRanking> clasificacionCategoria(Integer idCategoria, Integer desde, Integer limite) {
+        return pagina(porCategoria.get(idCategoria), desde, limite);
+    }
+
+    public List<PosicionRanking> clasificacionClub(Integer idClub, Integer desde, Integer limite) {
+        return pagina(porClub.get(idClub), desde, limite);
+    }
+
+    /**
+     * Posición del competidor en su categoría y en su club
+     */
+    public Optional<Map<String, Object>> posicionCompetidor(Integer idCompetidor) {
+        UbicacionCompetidor ubicacion = ubicaciones.get(idCompetidor);
+        if (ubicacion == null) {
+            return Optional.empty();
+        }
+        Map<String, Object> posicion = new HashMap<>();
+        posicion.put("idCompetidor", idCompetidor);
+        posicion.put("idCategoria", ubicacion.idCategoria());
+        posicion.put("idClub", ubicacion.idClub());
+        clasificacion(porCategoria, ubicacion.idCategoria()).posicion(idCompetidor).ifPresent(p -> {
+            posicion.put("puntos", p.puntos());
+            posicion.put("posicionCategoria", p.posicion());
+        });
+        clasificacion(porClub, ubicacion.idClub()).posicion(idCompetidor)
+                .ifPresent(p -> posicion.put("posicionClub", p.posicion()));
+        return Optional.of(posicion);
+    }
+
+    /**
+     * Solo categorías y clubes registrados: cada id abre una clasificación que queda en memoria
+     *
+     * @return vacío si la categoría no existe
+     */
+    public Optional<SseEmitter> suscribirCategoria(Integer idCategoria) {
+        if (!porCategoria.containsKey(idCategoria) && !categoriaRepository.existsById(idCategoria)) {
+            return Optional.empty();
+        }
+        return Optional.of(difusionRanking.suscribir(new Canal(DifusionRanking.CATEGORIA, idCategoria),
+                clasificacion(porCategoria, idCategoria)));
+    }
+
+    public Optional<SseEmitter> suscribirClub(Integer idClub) {
+        if (!porClub.containsKey(idClub) && !clubRepository.existsById(idClub)) {
+            return Optional.empty();
+        }
+        return Optional.of(difusionRanking.suscribir(new Canal(DifusionRanking.CLUB, idClub),
+                clasificacion(porClub, idClub)));
+    }
+
+    private void sumar(String tipo, Integer id, Map<Integer, Clasificacion> clasificaciones,
+                       Integer idCompetidor, long puntos) {
+        Clasificacion clasificacion = clasificacion(clasificaciones, id);
+        PosicionRanking cambio = clasificacion.sumar(idCompetidor, puntos);
+        difusionRanking.publicar(new Canal(tipo, id), clasificacion, cambio);
+    }
+
+    private static Clasificacion clasificacion(Map<Integer, Clasificacion> clasificaciones, Integer id) {
+        return clasificaciones.computeIfAbsent(id, clave -> new Clasificacion());
+    }
+
+    private static List<PosicionRanking> pagina(Clasificacion clasificacion, Integer desde, Integer limite) {
+        if (clasificacion == null) {
+            return List.of();
+        }
+        int cantidad = limite == null || limite <= 0 ? LIMITE_POR_DEFECTO : Math.min(limite, LIMITE_MAXIMO);
+        return clasificacion.pagina(desde == null || desde < 1 ? 1 : desde, cantidad);
+    }
+}
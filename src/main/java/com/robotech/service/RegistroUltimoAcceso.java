@@ -0,0 +1,90 @@
+package com.robotech.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escritura diferida de Usuario.ultimoAcceso
+ * El login solo registra el instante en memoria; cada intervalo se escriben los pendientes
+ * con un UPDATE en batch. Varios logins del mismo usuario en un intervalo se reducen a una escritura.
+ */
+@Component
+public class RegistroUltimoAcceso {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistroUltimoAcceso.class);
+
+    private static final String UPDATE_ULTIMO_ACCESO = "UPDATE usuario SET ultimo_acceso = ? WHERE id_usuario = ?";
+
+    private final Map<Integer, LocalDateTime> pendientes = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${robotech.ultimo-acceso.tamanio-lote:500}")
+    private int tamanioLote;
+
+    @Value("${robotech.ultimo-acceso.maximo-por-vaciado:5000}")
+    private int maximoPorVaciado;
+
+    /**
+     * Registra un acceso; si ya había uno pendiente se conserva el más reciente
+     */
+    public void registrar(Integer idUsuario, LocalDateTime instante) {
+        pendientes.merge(idUsuario, instante, (actual, nuevo) -> nuevo.isAfter(actual) ? nuevo : actual);
+    }
+
+    /**
+     * Escribe como máximo maximoPorVaciado accesos pendientes, el resto queda para el siguiente intervalo
+     */
+    @Scheduled(fixedDelayString = "${robotech.ultimo-acceso.intervalo-ms:5000}")
+    public void vaciar() {
+        vaciar(maximoPorVaciado);
+    }
+
+    @PreDestroy
+    public void vaciarAlDetener() {
+        vaciar(Integer.MAX_VALUE);
+    }
+
+    private void vaciar(int maximo) {
+        if (pendientes.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> filas = new ArrayList<>();
+        Iterator<Map.Entry<Integer, LocalDateTime>> it = pendientes.entrySet().iterator();
+        while (it.hasNext() && filas.size() < maximo) {
+            Map.Entry<Integer, LocalDateTime> entrada = it.next();
+            // remove(key, value) no descarta un acceso más reciente registrado mientras tanto
+            if (pendientes.remove(entrada.getKey(), entrada.getValue())) {
+                filas.add(new Object[]{Timestamp.valueOf(entrada.getValue()), entrada.getKey()});
+            }
+        }
+
+        for (int inicio = 0; inicio < filas.size(); inicio += tamanioLote) {
+            List<Object[]> lote = filas.subList(inicio, Math.min(inicio + tamanioLote, filas.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_ULTIMO_ACCESO, lote);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo actualizar el último acceso de {} usuarios, se reintentará", lote.size(), e);
+                for (Object[] fila : lote) {
+                    registrar((Integer) fila[1], ((Timestamp) fila[0]).toLocalDateTime());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.robotech.service;
+
+import com.robotech.config.CacheConfig;
+import com.robotech.model.Rol;
+import com.robotech.repository.RolRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+@Transactional
+public class RolService {
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    /**
+     * Buscar rol por ID (cacheado)
+     */
+    @Cacheable(cacheNames = CacheConfig.ROLES, key = "#id", unless = "#result == null")
+    public Optional<Rol> buscarPorId(Integer id) {
+        return rolRepository.findById(id).map(RolService::desacoplado);
+    }
+
+    /**
+     * Copia fuera del contexto de persistencia: lo cacheado lo comparten todas las peticiones
+     */
+    private static Rol desacoplado(Rol rol) {
+        return new Rol(rol.getIdRol(), rol.getNombreRol(), rol.getDescripcion(), rol.getFechaCreacion());
+    }
+}
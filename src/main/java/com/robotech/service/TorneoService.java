@@ -0,0 +1,252 @@
+package com.robotech.service;
+
+import com.robotech.dto.PaginaCursor;
+import com.robotech.dto.Participante;
+import com.robotech.exception.ConflictoException;
+import com.robotech.exception.NoEncontradoException;
+import com.robotech.exception.ValidacionException;
+import com.robotech.model.Categoria;
+import com.robotech.model.Enfrentamiento;
+import com.robotech.model.Enfrentamiento.EstadoEnfrentamiento;
+import com.robotech.model.Torneo;
+import com.robotech.model.Torneo.FormatoTorneo;
+import com.robotech.repository.CompetidorRepository;
+import com.robotech.repository.EnfrentamientoRepository;
+import com.robotech.repository.TorneoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Transactional
+public class TorneoService {
+
+    @Autowired
+    private TorneoRepository torneoRepository;
+
+    @Autowired
+    private EnfrentamientoRepository enfrentamientoRepository;
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    /**
+     * Generar torneo de una categoría
+     * Siembra a los competidores activos en orden de inscripción y guarda la llave completa
+     * (en suizo, solo la primera ronda)
+     */
+    public Torneo generarTorneo(Integer idCategoria, String nombre, FormatoTorneo formato) {
+        if (formato == null) {
+            throw new ValidacionException("Debe indicar el formato del torneo");
+        }
+        Categoria categoria = categoriaService.buscarPorId(idCategoria)
+                .orElseThrow(() -> new NoEncontradoException("Categoría no encontrada"));
+        if (!categoria.getActivo()) {
+            throw new ConflictoException("La categoría no está activa");
+        }
+
+        List<Participante> participantes = competidorRepository.findParticipantes(idCategoria);
+        if (participantes.size() < 2) {
+            throw new ConflictoException("Se necesitan al menos 2 competidores activos en la categoría");
+        }
+
+        List<Enfrentamiento> enfrentamientos = switch (formato) {
+            case EliminacionSimple -> GeneradorLlaves.eliminacionSimple(participantes);
+            case EliminacionDoble -> GeneradorLlaves.eliminacionDoble(participantes);
+            case Suizo -> GeneradorLlaves.suizoPrimeraRonda(participantes);
+        };
+
+        Torneo torneo = new Torneo();
+        torneo.setNombre(nombre != null ? nombre : categoria.getNombreCategoria());
+        torneo.setCategoria(categoria);
+        torneo.setFormato(formato);
+        torneo.setParticipantes(participantes.size());
+        torneo.setRondas(GeneradorLlaves.rondas(participantes.size()));
+        torneo = torneoRepository.save(torneo);
+
+        for (Enfrentamiento enfrentamiento : enfrentamientos) {
+            enfrentamiento.setIdTorneo(torneo.getIdTorneo());
+        }
+        enfrentamientoRepository.insertarEnLote(enfrentamientos);
+        return torneo;
+    }
+
+    /**
+     * Emparejar la siguiente ronda de un torneo suizo
+     * Requiere que la ronda actual no tenga enfrentamientos pendientes; el puntaje es el número de victorias
+     */
+    public List<Enfrentamiento> generarSiguienteRondaSuiza(Integer idTorneo) {
+        Torneo torneo = torneoRepository.findById(idTorneo)
+                .orElseThrow(() -> new NoEncontradoException("Torneo no encontrado"));
+        if (torneo.getFormato() != FormatoTorneo.Suizo) {
+            throw new ConflictoException("Solo los torneos suizos se emparejan por rondas");
+        }
+        if (torneo.getRondaActual() >= torneo.getRondas()) {
+            throw new ConflictoException("El torneo ya jugó todas sus rondas");
+        }
+        if (enfrentamientoRepository.existsByIdTorneoAndRondaAndEstado(
+                idTorneo, torneo.getRondaActual(), EstadoEnfrentamiento.Pendiente)) {
+            throw new ConflictoException("La ronda actual aún tiene enfrentamientos pendientes");
+        }
+
+        List<Enfrentamiento> jugados = enfrentamientoRepository.findByIdTorneo(idTorneo);
+        Set<Integer> inscritos = new HashSet<>();
+        Set<Long> previos = new HashSet<>();
+        Map<Integer, Integer> victorias = new HashMap<>();
+        int ultimoNumero = 0;
+        for (Enfrentamiento enfrentamiento : jugados) {
+            Integer a = enfrentamiento.getIdCompetidorA();
+            Integer b = enfrentamiento.getIdCompetidorB();
+            inscritos.add(a);
+            if (b != null) {
+                inscritos.add(b);
+                previos.add(GeneradorLlaves.clavePar(a, b));
+            }
+            if (enfrentamiento.getIdGanador() != null) {
+                victorias.merge(enfrentamiento.getIdGanador(), 1, Integer::sum);
+            }
+            ultimoNumero = Math.max(ultimoNumero, enfrentamiento.getNumero());
+        }
+
+        // Competidores del torneo que siguen activos, en orden de siembra y luego por victorias
+        List<Participante> clasificacion = new ArrayList<>();
+        for (Participante participante : competidorRepository.findParticipantes(torneo.getCategoria().getIdCategoria())) {
+            if (inscritos.contains(participante.idCompetidor())) {
+                clasificacion.add(participante);
+            }
+        }
+        clasificacion.sort(Comparator.comparingInt(
+                (Participante p) -> victorias.getOrDefault(p.idCompetidor(), 0)).reversed());
+
+        int ronda = torneo.getRondaActual() + 1;
+        List<Enfrentamiento> enfrentamientos = GeneradorLlaves.rondaSuiza(clasificacion, previos, ronda, ultimoNumero + 1);
+        for (Enfrentamiento enfrentamiento : enfrentamientos) {
+            enfrentamiento.setIdTorneo(idTorneo);
+        }
+        enfrentamientoRepository.insertarEnLote(enfrentamientos);
+
+        torneo.setRondaActual(ronda);
+        torneo.setEstado(Torneo.EstadoTorneo.EnCurso);
+        torneoRepository.save(torneo);
+        return enfrentamientos;
+    }
+
+    /**
+     * Registrar el ganador de un enfrentamiento
+     * Cierra el enfrentamiento y lleva al ganador (y al perdedor, en eliminación doble) a los enfrentamientos
+     * indicados por siguienteGanador/siguientePerdedor. Si el destino es un Bye, quien llega sigue avanzando.
+     */
+    public Enfrentamiento registrarGanador(Integer idTorneo, Integer numero, Integer idGanador) {
+        if (idGanador == null) {
+            throw new ValidacionException("Debe indicar el ganador");
+        }
+        Torneo torneo = torneoRepository.findById(idTorneo)
+                .orElseThrow(() -> new NoEncontradoException("Torneo no encontrado"));
+        Enfrentamiento enfrentamiento = bloquearEnfrentamiento(idTorneo, numero);
+        if (enfrentamiento.getEstado() != EstadoEnfrentamiento.Pendiente) {
+            throw new ConflictoException("El enfrentamiento ya tiene resultado");
+        }
+        Integer a = enfrentamiento.getIdCompetidorA();
+        Integer b = enfrentamiento.getIdCompetidorB();
+        if (a == null || b == null) {
+            throw new ConflictoException("El enfrentamiento aún no tiene a sus dos competidores");
+        }
+        if (!idGanador.equals(a) && !idGanador.equals(b)) {
+            throw new ValidacionException("El ganador debe ser uno de los competidores del enfrentamiento");
+        }
+
+        enfrentamiento.setIdGanador(idGanador);
+        enfrentamiento.setEstado(EstadoEnfrentamiento.Finalizado);
+        Integer perdedor = idGanador.equals(a) ? b : a;
+        Integer siguienteGanador = enfrentamiento.getSiguienteGanador();
+        Integer siguientePerdedor = enfrentamiento.getSiguientePerdedor();
+        // Destinos en orden de número: dos resultados simultáneos toman los bloqueos en el mismo orden
+        if (siguientePerdedor != null && (siguienteGanador == null || siguientePerdedor < siguienteGanador)) {
+            avanzar(idTorneo, siguientePerdedor, perdedor);
+            siguientePerdedor = null;
+        }
+        if (siguienteGanador != null) {
+            avanzar(idTorneo, siguienteGanador, idGanador);
+        }
+        if (siguientePerdedor != null) {
+            avanzar(idTorneo, siguientePerdedor, perdedor);
+        }
+
+        torneo.setEstado(torneoTerminado(torneo, enfrentamiento)
+                ? Torneo.EstadoTorneo.Finalizado
+                : Torneo.EstadoTorneo.EnCurso);
+        torneoRepository.save(torneo);
+        return enfrentamiento;
+    }
+
+    private void avanzar(Integer idTorneo, Integer numero, Integer idCompetidor) {
+        Enfrentamiento destino = bloquearEnfrentamiento(idTorneo, numero);
+        if (destino.getIdCompetidorA() == null) {
+            destino.setIdCompetidorA(idCompetidor);
+        } else {
+            destino.setIdCompetidorB(idCompetidor);
+        }
+        // Bye: era el único competidor que podía llegar, pasa sin jugar
+        if (destino.getEstado() == EstadoEnfrentamiento.Bye) {
+            destino.setIdGanador(idCompetidor);
+            if (destino.getSiguienteGanador() != null) {
+                avanzar(idTorneo, destino.getSiguienteGanador(), idCompetidor);
+            }
+        }
+    }
+
+    private boolean torneoTerminado(Torneo torneo, Enfrentamiento enfrentamiento) {
+        if (torneo.getFormato() != FormatoTorneo.Suizo) {
+            // La final (o la gran final en eliminación doble) no alimenta a ningún otro enfrentamiento
+            return enfrentamiento.getSiguienteGanador() == null && enfrentamiento.getSiguientePerdedor() == null;
+        }
+        return torneo.getRondaActual() >= torneo.getRondas()
+                && !enfrentamientoRepository.existsByIdTorneoAndRondaAndEstado(
+                        torneo.getIdTorneo(), torneo.getRondaActual(), EstadoEnfrentamiento.Pendiente);
+    }
+
+    private Enfrentamiento bloquearEnfrentamiento(Integer idTorneo, Integer numero) {
+        return enfrentamientoRepository.findByIdTorneoAndNumero(idTorneo, numero)
+                .orElseThrow(() -> new NoEncontradoException("Enfrentamiento no encontrado"));
+    }
+
+    /**
+     * Buscar torneo por ID
+     */
+    @Transactional(readOnly = true)
+    public Optional<Torneo> buscarPorId(Integer id) {
+        return torneoRepository.findById(id);
+    }
+
+    /**
+     * Listar torneos de una categoría (el más reciente primero)
+     */
+    @Transactional(readOnly = true)
+    public List<Torneo> listarPorCategoria(Integer idCategoria) {
+        return torneoRepository.findByCategoria_IdCategoriaOrderByIdTorneoDesc(idCategoria);
+    }
+
+    /**
+     * Listar enfrentamientos de un torneo (paginado por cursor, el cursor es el número de enfrentamiento)
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursor<Enfrentamiento> listarEnfrentamientos(Integer idTorneo, Integer despuesDe, Integer limite) {
+        int tamanio = PaginaCursor.normalizarLimite(limite);
+        List<Enfrentamiento> filas = enfrentamientoRepository.findByIdTorneoAndNumeroGreaterThanOrderByNumeroAsc(
+                idTorneo, PaginaCursor.cursorInicial(despuesDe), Limit.of(tamanio + 1));
+        return PaginaCursor.de(filas, tamanio, Enfrentamiento::getNumero);
+    }
+}
@@ -1,10 +1,19 @@
 package com.robotech.service;
 
+import com.robotech.dto.PaginaCursor;
+import com.robotech.event.UsuarioCambiadoEvent;
+import com.robotech.exception.ConflictoException;
+import com.robotech.exception.NoEncontradoException;
+import com.robotech.exception.ValidacionException;
 import com.robotech.model.Rol;
 import com.robotech.model.Usuario;
-import com.robotech.repository.RolRepository;
 import com.robotech.repository.UsuarioRepository;
+import com.robotech.unicidad.FiltrosUnicidad;
+import com.robotech.unicidad.FiltrosUnicidad.Clave;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,29 +24,42 @@ import java.util.Optional;
 
 @Service
 @Transactional
+@Timed(value = "robotech.servicio", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class UsuarioService {
 
     @Autowired
     private UsuarioRepository usuarioRepository;
     
     @Autowired
-    private RolRepository rolRepository;
+    private RolService rolService;
+
+    @Autowired
+    private RegistroUltimoAcceso registroUltimoAcceso;
+
+    @Autowired
+    private FiltrosUnicidad filtrosUnicidad;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     /**
      * CU14: Iniciar Sesión
      * Busca usuario por correo y valida contraseña
+     * Solo lectura: el último acceso se escribe en diferido (RegistroUltimoAcceso)
      */
+    @Transactional(readOnly = true)
     public Optional<Usuario> autenticar(String correo, String password) {
         Optional<Usuario> usuario = usuarioRepository.findByCorreo(correo);
         
         if (usuario.isPresent() && usuario.get().getActivo()) {
             // Verificar contraseña hasheada
             if (passwordEncoder.matches(password, usuario.get().getPassword())) {
-                // Actualizar último acceso
-                usuario.get().setUltimoAcceso(LocalDateTime.now());
-                usuarioRepository.save(usuario.get());
+                // Registrar último acceso (no se escribe dentro de esta transacción)
+                LocalDateTime ahora = LocalDateTime.now();
+                usuario.get().setUltimoAcceso(ahora);
+                registroUltimoAcceso.registrar(usuario.get().getIdUsuario(), ahora);
                 return usuario;
             }
         }
@@ -50,25 +72,33 @@ public class UsuarioService {
      */
     public Usuario actualizarRol(Integer idUsuario, Integer idRol) {
         Usuario usuario = usuarioRepository.findById(idUsuario)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Usuario no encontrado"));
         
-        Rol rol = rolRepository.findById(idRol)
-                .orElseThrow(() -> new RuntimeException("Rol no encontrado"));
+        Rol rol = rolService.buscarPorId(idRol)
+                .orElseThrow(() -> new NoEncontradoException("Rol no encontrado"));
         
         usuario.setRol(rol);
-        return usuarioRepository.save(usuario);
+        // Los tokens emitidos llevan el rol anterior: se revocan cuando el cambio ya está confirmado
+        Usuario guardado = usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(new UsuarioCambiadoEvent(idUsuario));
+        return guardado;
     }
 
     /**
-     * Listar todos los usuarios
+     * Listar todos los usuarios (paginado por cursor)
      */
-    public List<Usuario> listarTodos() {
-        return usuarioRepository.findAll();
+    @Transactional(readOnly = true)
+    public PaginaCursor<Usuario> listarTodos(Integer despuesDe, Integer limite) {
+        int tamanio = PaginaCursor.normalizarLimite(limite);
+        List<Usuario> filas = usuarioRepository.findByIdUsuarioGreaterThanOrderByIdUsuarioAsc(
+                PaginaCursor.cursorInicial(despuesDe), Limit.of(tamanio + 1));
+        return PaginaCursor.de(filas, tamanio, Usuario::getIdUsuario);
     }
 
     /**
      * Listar usuarios activos
      */
+    @Transactional(readOnly = true)
     public List<Usuario> listarActivos() {
         return usuarioRepository.findByActivoTrue();
     }
@@ -76,6 +106,7 @@ public class UsuarioService {
     /**
      * Buscar usuario por ID
      */
+    @Transactional(readOnly = true)
     public Optional<Usuario> buscarPorId(Integer id) {
         return usuarioRepository.findById(id);
     }
@@ -83,6 +114,7 @@ public class UsuarioService {
     /**
      * Buscar usuario por correo
      */
+    @Transactional(readOnly = true)
     public Optional<Usuario> buscarPorCorreo(String correo) {
         return usuarioRepository.findByCorreo(correo);
     }
@@ -91,25 +123,30 @@ public class UsuarioService {
      * Crear nuevo usuario
      */
     public Usuario crearUsuario(Usuario usuario) {
-        // Validar que el correo no exista
-        if (usuarioRepository.existsByCorreo(usuario.getCorreo())) {
-            throw new RuntimeException("El correo electrónico ya está registrado");
+        // Validar que el correo no exista (el filtro evita la consulta si seguro es nuevo)
+        if (filtrosUnicidad.puedeExistir(Clave.CorreoUsuario, usuario.getCorreo())
+                && usuarioRepository.existsByCorreo(usuario.getCorreo())) {
+            throw new ConflictoException("El correo electrónico ya está registrado");
         }
         
-        // Validar que el teléfono no exista
-        if (usuarioRepository.existsByTelefono(usuario.getTelefono())) {
-            throw new RuntimeException("El teléfono ya está registrado");
+        // Validar que el teléfono no exista (sin teléfono no hay nada que repetir)
+        if (filtrosUnicidad.puedeExistir(Clave.TelefonoUsuario, usuario.getTelefono())
+                && usuarioRepository.existsByTelefono(usuario.getTelefono())) {
+            throw new ConflictoException("El teléfono ya está registrado");
         }
         
         // Verificar que el password no sea null
         if (usuario.getPassword() == null || usuario.getPassword().isEmpty()) {
-            throw new RuntimeException("La contraseña es obligatoria");
+            throw new ValidacionException("La contraseña es obligatoria");
         }
         
         // Hashear contraseña
         usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
         
-        return usuarioRepository.save(usuario);
+        Usuario guardado = usuarioRepository.save(usuario);
+        filtrosUnicidad.registrar(Clave.CorreoUsuario, guardado.getCorreo());
+        filtrosUnicidad.registrar(Clave.TelefonoUsuario, guardado.getTelefono());
+        return guardado;
     }
 
     /**
@@ -117,9 +154,11 @@ public class UsuarioService {
      */
     public Usuario cambiarEstado(Integer idUsuario, Boolean activo) {
         Usuario usuario = usuarioRepository.findById(idUsuario)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException("Usuario no encontrado"));
         
         usuario.setActivo(activo);
-        return usuarioRepository.save(usuario);
+        Usuario guardado = usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(new UsuarioCambiadoEvent(idUsuario));
+        return guardado;
     }
 }
\ No newline at end of file
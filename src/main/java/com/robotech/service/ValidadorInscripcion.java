@@ -0,0 +1,98 @@
+package com.robotech.service;
+
+import com.robotech.model.Categoria;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+
+/**
+ * Reglas de inscripción de competidores (CU05)
+ * No accede a la base de datos: el club y la categoría llegan ya resueltos,
+ * así la misma validación sirve para la inscripción individual y la masiva.
+ */
+public final class ValidadorInscripcion {
+
+    // Largos de las columnas de competidor
+    private static final int LARGO_NOMBRE = 100;
+    private static final int LARGO_DNI = 8;
+    private static final int LARGO_CORREO = 100;
+    private static final int LARGO_TELEFONO = 15;
+
+    private ValidadorInscripcion() {
+    }
+
+    /**
+     * Devuelve el primer error encontrado o null si el competidor puede inscribirse
+     */
+    public static String validar(Competidor competidor, Club club, Categoria categoria) {
+        // Campos obligatorios y largos de columna: en la masiva una fila inválida haría fallar todo el lote JDBC
+        String error = validarCampos(competidor);
+        if (error != null) {
+            return error;
+        }
+
+        // Validar que el club existe y está activo
+        if (club == null) {
+            return "Club no encontrado";
+        }
+        if (club.getEstado() != Club.EstadoClub.Activo) {
+            return "El club no está activo. Debe ser validado primero.";
+        }
+
+        // Validar que la categoría existe y está activa
+        if (categoria == null) {
+            return "Categoría no encontrada";
+        }
+        if (!categoria.getActivo()) {
+            return "La categoría no está activa";
+        }
+
+        // Validar rango de edad si aplica
+        if (competidor.getEdad() != null && categoria.getEdadMinima() != null && categoria.getEdadMaxima() != null) {
+            if (competidor.getEdad() < categoria.getEdadMinima() || competidor.getEdad() > categoria.getEdadMaxima()) {
+                return "La edad del competidor no cumple con el rango de la categoría ("
+                        + categoria.getEdadMinima() + "-" + categoria.getEdadMaxima() + " años)";
+            }
+        }
+        return null;
+    }
+
+    private static String validarCampos(Competidor competidor) {
+        if (estaVacio(competidor.getNombre())) {
+            return "El nombre es obligatorio";
+        }
+        if (estaVacio(competidor.getApellido())) {
+            return "El apellido es obligatorio";
+        }
+        if (excede(competidor.getNombre(), LARGO_NOMBRE)) {
+            return "El nombre supera los " + LARGO_NOMBRE + " caracteres";
+        }
+        if (excede(competidor.getApellido(), LARGO_NOMBRE)) {
+            return "El apellido supera los " + LARGO_NOMBRE + " caracteres";
+        }
+        if (excede(competidor.getDocumentoIdentidad(), LARGO_DNI)) {
+            return "El DNI supera los " + LARGO_DNI + " caracteres";
+        }
+        if (excede(competidor.getCorreo(), LARGO_CORREO)) {
+            return "El correo supera los " + LARGO_CORREO + " caracteres";
+        }
+        if (excede(competidor.getTelefono(), LARGO_TELEFONO)) {
+            return "El teléfono supera los " + LARGO_TELEFONO + " caracteres";
+        }
+        if (excede(competidor.getNombreRobot(), LARGO_NOMBRE)) {
+            return "El nombre del robot supera los " + LARGO_NOMBRE + " caracteres";
+        }
+        return null;
+    }
+
+    private static boolean estaVacio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    private static boolean excede(String valor, int largoMaximo) {
+        return valor != null && valor.length() > largoMaximo;
+    }
+
+    public static String mensajeDniDuplicado(String documentoIdentidad) {
+        return "Ya existe un competidor con el DNI " + documentoIdentidad;
+    }
+}
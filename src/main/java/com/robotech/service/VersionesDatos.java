@@ -0,0 +1,63 @@
+package com.robotech.service;
+
+import com.robotech.event.CategoriaCambiadaEvent;
+import com.robotech.event.ClubCambiadoEvent;
+import com.robotech.event.ClubesValidadosEvent;
+import com.robotech.event.CompetidoresCambiadosEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Versión de los datos de clubes, categorías y competidores, para responder GET condicionales (ETag)
+ * Cada agregado tiene un contador que se incrementa después del commit de cualquier cambio.
+ * El controlador lee la versión antes de consultar: si un cambio se confirma en medio, la respuesta
+ * sale con la versión anterior y el cliente la vuelve a pedir; nunca queda un dato viejo con ETag nuevo.
+ * Los contadores son de esta instancia, igual que las cachés de categorías.
+ */
+@Component
+public class VersionesDatos {
+
+    public enum Agregado {
+        Clubes, Categorias, Competidores
+    }
+
+    // Los contadores vuelven a cero al reiniciar: el instante de arranque evita repetir un ETag viejo
+    private final String arranque = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLongArray versiones = new AtomicLongArray(Agregado.values().length);
+
+    /**
+     * ETag que combina la versión de los agregados incluidos en la respuesta
+     * (un competidor se serializa con su club y su categoría)
+     */
+    public String etag(Agregado... agregados) {
+        StringBuilder etag = new StringBuilder("\"").append(arranque);
+        for (Agregado agregado : agregados) {
+            etag.append('-').append(versiones.get(agregado.ordinal()));
+        }
+        return etag.append('"').toString();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void clubCambiado(ClubCambiadoEvent evento) {
+        versiones.incrementAndGet(Agregado.Clubes.ordinal());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void clubesValidados(ClubesValidadosEvent evento) {
+        versiones.incrementAndGet(Agregado.Clubes.ordinal());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void categoriaCambiada(CategoriaCambiadaEvent evento) {
+        versiones.incrementAndGet(Agregado.Categorias.ordinal());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void competidoresCambiados(CompetidoresCambiadosEvent evento) {
+        versiones.incrementAndGet(Agregado.Competidores.ordinal());
+    }
+}
@@ -0,0 +1,110 @@
+package com.robotech.unicidad;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre un arreglo de bits sin locks
+ * contiene() en false garantiza que el valor nunca se agregó; en true puede ser un falso positivo.
+ * Los k índices salen de un solo hash de 64 bits (h1 + i·h2, Kirsch-Mitzenmacher).
+ * Los bits se encienden con CAS, así agregar y consultar desde varios hilos no pierde valores.
+ * Pasada la capacidad la tasa de falsos positivos sube: {@link #saturado()} avisa que conviene reconstruirlo.
+ */
+public final class FiltroBloom {
+
+    private final AtomicLongArray palabras;
+    private final long bits;
+    private final int funciones;
+    private final long capacidad;
+    private final AtomicLong agregados = new AtomicLong();
+
+    /**
+     * @param capacidad       valores esperados
+     * @param falsosPositivos tasa de falsos positivos con la capacidad llena, entre 0 y 1
+     */
+    public FiltroBloom(long capacidad, double falsosPositivos) {
+        if (capacidad < 1 || falsosPositivos <= 0 || falsosPositivos >= 1) {
+            throw new IllegalArgumentException("Capacidad o tasa de falsos positivos inválida");
+        }
+        // m = -n·ln(p) / ln(2)², redondeado a palabras de 64 bits; k = m/n·ln(2)
+        long m = (long) Math.ceil(-capacidad * Math.log(falsosPositivos) / (Math.log(2) * Math.log(2)));
+        long cantidadPalabras = Math.max(1, (m + 63) / 64);
+        if (cantidadPalabras > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacidad demasiado grande");
+        }
+        this.palabras = new AtomicLongArray((int) cantidadPalabras);
+        this.bits = cantidadPalabras * 64;
+        this.funciones = Math.max(1, (int) Math.round((double) bits / capacidad * Math.log(2)));
+        this.capacidad = capacidad;
+    }
+
+    public void agregar(String valor) {
+        long hash = hash(valor);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < funciones; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long actual = palabras.get(indice);
+            while ((actual & mascara) == 0) {
+                long previo = palabras.compareAndExchange(indice, actual, actual | mascara);
+                if (previo == actual) {
+                    break;
+                }
+                actual = previo;
+            }
+        }
+        agregados.incrementAndGet();
+    }
+
+    public boolean contiene(String valor) {
+        long hash = hash(valor);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < funciones; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((palabras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Se agregaron más valores que la capacidad con la que se dimensionó
+     */
+    public boolean saturado() {
+        return agregados.get() > capacidad;
+    }
+
+    public long agregados() {
+        return agregados.get();
+    }
+
+    long bits() {
+        return bits;
+    }
+
+    int funciones() {
+        return funciones;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los bytes UTF-8, con la mezcla final de MurmurHash3 para repartir los bits altos
+     */
+    private static long hash(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
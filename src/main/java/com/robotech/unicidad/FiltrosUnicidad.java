@@ -0,0 +1,190 @@
+package com.robotech.unicidad;
+
+import com.robotech.repository.ClubRepository;
+import com.robotech.repository.CompetidorRepository;
+import com.robotech.repository.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Pre-chequeo de unicidad antes de los exists de registro (nombre y correo de club, correo y teléfono
+ * de usuario, DNI de competidor): si el filtro de Bloom dice que el valor no está, la consulta se omite.
+ * Es solo un atajo: la garantía la dan las restricciones UNIQUE, y una violación que se cuele
+ * (filas insertadas por fuera de los servicios, dos altas simultáneas) llega como 409 desde ManejadorErrores.
+ * Los valores se comparan sin tildes, en minúsculas y sin espacios en los extremos: colisionar de más solo
+ * cuesta una consulta, y así un valor que la base considera igual (collation _ai_ci) nunca se descarta.
+ * Se carga al iniciar, los servicios agregan cada valor al guardarlo (antes del commit: si se revierte
+ * queda un falso positivo) y se reconstruye desde la base cuando algún filtro supera su capacidad,
+ * lo que también descarta los valores de filas borradas o modificadas.
+ */
+@Component
+public class FiltrosUnicidad {
+
+    public enum Clave { NombreClub, CorreoClub, CorreoUsuario, TelefonoUsuario, DocumentoCompetidor }
+
+    private static final Logger log = LoggerFactory.getLogger(FiltrosUnicidad.class);
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    @Value("${robotech.unicidad.capacidad-minima:10000}")
+    private long capacidadMinima;
+
+    @Value("${robotech.unicidad.falsos-positivos:0.01}")
+    private double falsosPositivos;
+
+    // Vacío hasta cargar(): sin filtro siempre se consulta
+    private volatile Map<Clave, FiltroBloom> filtros = Map.of();
+    // Durante una reconstrucción los valores nuevos también van a los filtros que se están llenando
+    private volatile Map<Clave, FiltroBloom> enConstruccion;
+
+    // Una reconstrucción a la vez; ReentrantLock y no synchronized porque adentro se consulta la base
+    // y un hilo virtual bloqueado en I/O dentro de synchronized fija su carrier
+    private final ReentrantLock reconstruccion = new ReentrantLock();
+
+    private final Map<Clave, Counter> evitadas = new EnumMap<>(Clave.class);
+    private final Map<Clave, Counter> consultadas = new EnumMap<>(Clave.class);
+
+    public FiltrosUnicidad(MeterRegistry meterRegistry) {
+        for (Clave clave : Clave.values()) {
+            evitadas.put(clave, contador(meterRegistry, clave, "evitada"));
+            consultadas.put(clave, contador(meterRegistry, clave, "consultada"));
+        }
+    }
+
+    @PostConstruct
+    public void cargar() {
+        reconstruir();
+    }
+
+    /**
+     * false: el valor seguro no está registrado y no hace falta consultar la base
+     * Un valor null nunca está repetido (las columnas UNIQUE admiten varios NULL)
+     */
+    public boolean puedeExistir(Clave clave, String valor) {
+        if (valor == null) {
+            evitadas.get(clave).increment();
+            return false;
+        }
+        FiltroBloom filtro = filtros.get(clave);
+        if (filtro != null && !filtro.contiene(normalizar(valor))) {
+            evitadas.get(clave).increment();
+            return false;
+        }
+        consultadas.get(clave).increment();
+        return true;
+    }
+
+    public void registrar(Clave clave, String valor) {
+        if (valor == null) {
+            return;
+        }
+        String normalizado = normalizar(valor);
+        // enConstruccion antes que filtros: si el reemplazo ocurre entre las dos lecturas, el valor
+        // igual termina en los filtros nuevos
+        Map<Clave, FiltroBloom> nuevos = enConstruccion;
+        if (nuevos != null) {
+            nuevos.get(clave).agregar(normalizado);
+        }
+        FiltroBloom filtro = filtros.get(clave);
+        if (filtro != null) {
+            filtro.agregar(normalizado);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${robotech.unicidad.revision-ms:600000}",
+            initialDelayString = "${robotech.unicidad.revision-ms:600000}")
+    public void revisar() {
+        if (filtros.values().stream().anyMatch(FiltroBloom::saturado)) {
+            reconstruir();
+        }
+    }
+
+    /**
+     * Vuelve a llenar los filtros desde la base, dimensionados al doble de las filas actuales
+     * Los filtros nuevos se publican en enConstruccion antes de leer los valores: un registro que ocurra
+     * durante las consultas ya no queda fuera aunque la lectura no alcance a ver su fila.
+     */
+    public void reconstruir() {
+        reconstruccion.lock();
+        try {
+            long clubes = clubRepository.count();
+            long usuarios = usuarioRepository.count();
+            Map<Clave, FiltroBloom> nuevos = new EnumMap<>(Clave.class);
+            nuevos.put(Clave.NombreClub, filtro(clubes));
+            nuevos.put(Clave.CorreoClub, filtro(clubes));
+            nuevos.put(Clave.CorreoUsuario, filtro(usuarios));
+            nuevos.put(Clave.TelefonoUsuario, filtro(usuarios));
+            nuevos.put(Clave.DocumentoCompetidor, filtro(competidorRepository.count()));
+            enConstruccion = nuevos;
+
+            Map<Clave, List<String>> valores = new EnumMap<>(Clave.class);
+            valores.put(Clave.NombreClub, clubRepository.findNombres());
+            valores.put(Clave.CorreoClub, clubRepository.findCorreosRepresentante());
+            valores.put(Clave.CorreoUsuario, usuarioRepository.findCorreos());
+            valores.put(Clave.TelefonoUsuario, usuarioRepository.findTelefonos());
+            valores.put(Clave.DocumentoCompetidor, competidorRepository.findDocumentos());
+            valores.forEach((clave, lista) -> {
+                FiltroBloom filtro = nuevos.get(clave);
+                for (String valor : lista) {
+                    if (valor != null) {
+                        filtro.agregar(normalizar(valor));
+                    }
+                }
+            });
+            filtros = nuevos;
+            log.info("Filtros de unicidad cargados: {}", resumen(valores));
+        } finally {
+            // Si la carga falla quedan los filtros anteriores
+            enConstruccion = null;
+            reconstruccion.unlock();
+        }
+    }
+
+    private FiltroBloom filtro(long filas) {
+        return new FiltroBloom(Math.max(capacidadMinima, 2L * filas), falsosPositivos);
+    }
+
+    static String normalizar(String valor) {
+        return MARCAS.matcher(Normalizer.normalize(valor, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT).strip();
+    }
+
+    private static String resumen(Map<Clave, List<String>> valores) {
+        StringBuilder resumen = new StringBuilder();
+        valores.forEach((clave, lista) -> resumen.append(resumen.isEmpty() ? "" : ", ")
+                .append(clave).append('=').append(lista.size()));
+        return resumen.toString();
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, Clave clave, String resultado) {
+        return Counter.builder("robotech.unicidad.prechequeos")
+                .description("Pre-chequeos de unicidad: evitada = no hizo falta consultar la base")
+                .tag("clave", clave.name())
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,116 @@
+package db.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deja todas las restricciones UNIQUE con los nombres uk_* que esperan las entidades
+ * Las bases marcadas en V1 (baseline) las creó ddl-auto=update: sus restricciones tienen el nombre que generó
+ * Hibernate (UK seguido de un hash), y el teléfono de usuario, el correo de club y el DNI no eran únicos.
+ * ManejadorErrores reconoce el 409 por el nombre, así que cada restricción se renombra si ya existe
+ * sobre las mismas columnas y se crea si falta. En una base nueva solo se crean las que V1 no tiene.
+ * Si hay valores repetidos la migración se detiene indicando la tabla: hay que depurarlos y volver a arrancar.
+ */
+public class V4__restricciones_unicas extends BaseJavaMigration {
+
+    private static final List<Restriccion> RESTRICCIONES = List.of(
+            new Restriccion("rol", "uk_rol_nombre", "nombre_rol"),
+            new Restriccion("usuario", "uk_usuario_correo", "correo"),
+            new Restriccion("usuario", "uk_usuario_telefono", "telefono"),
+            new Restriccion("categoria", "uk_categoria_nombre", "nombre_categoria"),
+            new Restriccion("club", "uk_club_nombre", "nombre_club"),
+            new Restriccion("club", "uk_club_correo_representante", "correo_representante"),
+            new Restriccion("competidor", "uk_competidor_documento", "documento_identidad"),
+            new Restriccion("enfrentamiento", "uk_enfrentamiento_torneo_numero", "id_torneo", "numero"));
+
+    private static final String UNICAS =
+            "SELECT tc.constraint_name, kcu.column_name FROM information_schema.table_constraints tc "
+                    + "JOIN information_schema.key_column_usage kcu ON kcu.constraint_schema = tc.constraint_schema "
+                    + "AND kcu.constraint_name = tc.constraint_name AND kcu.table_name = tc.table_name "
+                    + "WHERE tc.constraint_type = 'UNIQUE' AND LOWER(tc.table_schema) = LOWER(?) "
+                    + "AND LOWER(tc.table_name) = ? ORDER BY tc.constraint_name, kcu.ordinal_position";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexion = context.getConnection();
+        // MySQL expone la base como catálogo; H2 como esquema
+        String esquema = conexion.getSchema() != null ? conexion.getSchema() : conexion.getCatalog();
+        String producto = conexion.getMetaData().getDatabaseProductName();
+        boolean mysql = producto.equals("MySQL") || producto.equals("MariaDB");
+        String comilla = conexion.getMetaData().getIdentifierQuoteString();
+
+        for (Restriccion restriccion : RESTRICCIONES) {
+            Map<String, List<String>> existentes = unicas(conexion, esquema, restriccion.tabla());
+            if (existentes.keySet().stream().anyMatch(restriccion.nombre()::equalsIgnoreCase)) {
+                continue;
+            }
+            String actual = existentes.entrySet().stream()
+                    .filter(unica -> unica.getValue().equals(restriccion.columnas()))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+            try (Statement sentencia = conexion.createStatement()) {
+                if (actual != null) {
+                    // MySQL no tiene RENAME CONSTRAINT: la restricción es el índice único del mismo nombre
+                    sentencia.execute("ALTER TABLE " + restriccion.tabla()
+                            + (mysql ? " RENAME INDEX " : " RENAME CONSTRAINT ")
+                            + comilla + actual + comilla + " TO " + restriccion.nombre());
+                } else {
+                    verificarSinRepetidos(conexion, restriccion);
+                    sentencia.execute("ALTER TABLE " + restriccion.tabla() + " ADD CONSTRAINT " + restriccion.nombre()
+                            + " UNIQUE (" + String.join(", ", restriccion.columnas()) + ")");
+                }
+            }
+        }
+    }
+
+    private static Map<String, List<String>> unicas(Connection conexion, String esquema, String tabla)
+            throws SQLException {
+        Map<String, List<String>> unicas = new LinkedHashMap<>();
+        try (PreparedStatement consulta = conexion.prepareStatement(UNICAS)) {
+            consulta.setString(1, esquema);
+            consulta.setString(2, tabla);
+            try (ResultSet filas = consulta.executeQuery()) {
+                while (filas.next()) {
+                    unicas.computeIfAbsent(filas.getString(1), nombre -> new ArrayList<>())
+                            .add(filas.getString(2).toLowerCase());
+                }
+            }
+        }
+        return unicas;
+    }
+
+    private static void verificarSinRepetidos(Connection conexion, Restriccion restriccion) throws SQLException {
+        String columnas = String.join(", ", restriccion.columnas());
+        String noNulas = String.join(" IS NOT NULL AND ", restriccion.columnas()) + " IS NOT NULL";
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet repetidos = sentencia.executeQuery("SELECT COUNT(*) FROM (SELECT " + columnas
+                     + " FROM " + restriccion.tabla() + " WHERE " + noNulas
+                     + " GROUP BY " + columnas + " HAVING COUNT(*) > 1) repetidos")) {
+            repetidos.next();
+            long grupos = repetidos.getLong(1);
+            if (grupos > 0) {
+                throw new FlywayException("No se puede crear " + restriccion.nombre() + ": " + restriccion.tabla()
+                        + " tiene " + grupos + " valores repetidos en (" + columnas + ")");
+            }
+        }
+    }
+
+    private record Restriccion(String tabla, String nombre, List<String> columnas) {
+
+        Restriccion(String tabla, String nombre, String... columnas) {
+            this(tabla, nombre, List.of(columnas));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+-- =====================================================
+-- Esquema inicial: las cinco tablas que ddl-auto=update creaba antes de las migraciones
+-- Las bases ya creadas con ddl-auto se marcan en esta versión (baseline) y siguen desde V2, así que
+-- esta versión no cambia: lo que se agregue después va en una migración nueva.
+-- Los UNIQUE son los de entonces; los que faltaban (teléfono de usuario, correo de club, DNI) los agrega V4
+-- =====================================================
+
+CREATE TABLE rol (
+    id_rol INTEGER NOT NULL AUTO_INCREMENT,
+    nombre_rol VARCHAR(50) NOT NULL,
+    descripcion VARCHAR(200),
+    fecha_creacion DATETIME(6) NOT NULL,
+    PRIMARY KEY (id_rol),
+    CONSTRAINT uk_rol_nombre UNIQUE (nombre_rol)
+) ENGINE=InnoDB;
+
+CREATE TABLE usuario (
+    id_usuario INTEGER NOT NULL AUTO_INCREMENT,
+    correo VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    nombre VARCHAR(100) NOT NULL,
+    apellido VARCHAR(100),
+    telefono VARCHAR(15),
+    id_rol INTEGER NOT NULL,
+    activo BIT NOT NULL,
+    fecha_registro DATETIME(6) NOT NULL,
+    ultimo_acceso DATETIME(6),
+    PRIMARY KEY (id_usuario),
+    CONSTRAINT uk_usuario_correo UNIQUE (correo),
+    CONSTRAINT fk_usuario_rol FOREIGN KEY (id_rol) REFERENCES rol (id_rol)
+) ENGINE=InnoDB;
+
+CREATE TABLE categoria (
+    id_categoria INTEGER NOT NULL AUTO_INCREMENT,
+    nombre_categoria VARCHAR(100) NOT NULL,
+    descripcion TEXT,
+    edad_minima INTEGER,
+    edad_maxima INTEGER,
+    activo BIT NOT NULL,
+    fecha_creacion DATETIME(6) NOT NULL,
+    PRIMARY KEY (id_categoria),
+    CONSTRAINT uk_categoria_nombre UNIQUE (nombre_categoria)
+) ENGINE=InnoDB;
+
+CREATE TABLE club (
+    id_club INTEGER NOT NULL AUTO_INCREMENT,
+    nombre_club VARCHAR(150) NOT NULL,
+    representante VARCHAR(150) NOT NULL,
+    correo_representante VARCHAR(100) NOT NULL,
+    telefono VARCHAR(15),
+    direccion VARCHAR(250),
+    estado ENUM('Activo', 'Inactivo', 'Pendiente', 'Rechazado') NOT NULL,
+    fecha_registro DATETIME(6) NOT NULL,
+    fecha_validacion DATETIME(6),
+    id_usuario_validador INTEGER,
+    observaciones TEXT,
+    PRIMARY KEY (id_club),
+    CONSTRAINT uk_club_nombre UNIQUE (nombre_club),
+    CONSTRAINT fk_club_usuario_validador FOREIGN KEY (id_usuario_validador) REFERENCES usuario (id_usuario)
+) ENGINE=InnoDB;
+
+CREATE TABLE competidor (
+    id_competidor INTEGER NOT NULL AUTO_INCREMENT,
+    nombre VARCHAR(100) NOT NULL,
+    apellido VARCHAR(100) NOT NULL,
+    documento_identidad VARCHAR(8),
+    fecha_nacimiento DATE,
+    edad INTEGER,
+    correo VARCHAR(100),
+    telefono VARCHAR(15),
+    nombre_robot VARCHAR(100),
+    id_club INTEGER NOT NULL,
+    id_categoria INTEGER NOT NULL,
+    activo BIT NOT NULL,
+    fecha_inscripcion DATETIME(6) NOT NULL,
+    PRIMARY KEY (id_competidor),
+    CONSTRAINT fk_competidor_club FOREIGN KEY (id_club) REFERENCES club (id_club),
+    CONSTRAINT fk_competidor_categoria FOREIGN KEY (id_categoria) REFERENCES categoria (id_categoria)
+) ENGINE=InnoDB;
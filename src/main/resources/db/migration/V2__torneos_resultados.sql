@@ -0,0 +1,54 @@
+-- =====================================================
+-- Tablas de conteos, torneos y resultados
+-- Ninguna base anterior a las migraciones las tiene: llegan aquí, también a las marcadas en V1
+-- =====================================================
+
+CREATE TABLE conteo_competidores (
+    ambito ENUM('Categoria', 'Club') NOT NULL,
+    id_ambito INTEGER NOT NULL,
+    total BIGINT NOT NULL,
+    activos BIGINT NOT NULL,
+    PRIMARY KEY (id_ambito, ambito)
+) ENGINE=InnoDB;
+
+CREATE TABLE torneo (
+    id_torneo INTEGER NOT NULL AUTO_INCREMENT,
+    nombre VARCHAR(150) NOT NULL,
+    id_categoria INTEGER NOT NULL,
+    formato ENUM('EliminacionDoble', 'EliminacionSimple', 'Suizo') NOT NULL,
+    estado ENUM('EnCurso', 'Finalizado', 'Generado') NOT NULL,
+    participantes INTEGER NOT NULL,
+    rondas INTEGER NOT NULL,
+    ronda_actual INTEGER NOT NULL,
+    fecha_creacion DATETIME(6) NOT NULL,
+    PRIMARY KEY (id_torneo),
+    CONSTRAINT fk_torneo_categoria FOREIGN KEY (id_categoria) REFERENCES categoria (id_categoria)
+) ENGINE=InnoDB;
+
+CREATE TABLE enfrentamiento (
+    id_enfrentamiento INTEGER NOT NULL AUTO_INCREMENT,
+    id_torneo INTEGER NOT NULL,
+    numero INTEGER NOT NULL,
+    llave ENUM('GranFinal', 'Perdedores', 'Principal') NOT NULL,
+    ronda INTEGER NOT NULL,
+    posicion INTEGER NOT NULL,
+    id_competidor_a INTEGER,
+    id_competidor_b INTEGER,
+    id_ganador INTEGER,
+    estado ENUM('Bye', 'Finalizado', 'Pendiente') NOT NULL,
+    siguiente_ganador INTEGER,
+    siguiente_perdedor INTEGER,
+    PRIMARY KEY (id_enfrentamiento),
+    CONSTRAINT uk_enfrentamiento_torneo_numero UNIQUE (id_torneo, numero)
+) ENGINE=InnoDB;
+
+CREATE TABLE resultado (
+    id_resultado INTEGER NOT NULL AUTO_INCREMENT,
+    id_competidor INTEGER NOT NULL,
+    id_enfrentamiento INTEGER,
+    puntos INTEGER NOT NULL,
+    fecha_registro DATETIME(6) NOT NULL,
+    PRIMARY KEY (id_resultado)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_resultado_competidor ON resultado (id_competidor);
@@ -0,0 +1,27 @@
+-- =====================================================
+-- Índices para los predicados de los repositorios
+-- InnoDB agrega la clave primaria al final de cada índice secundario: (a, b) ordena por (a, b, id),
+-- así que un "WHERE a = ? AND b = ? ORDER BY id" se resuelve recorriendo el índice sin ordenar.
+-- Los índices que empiezan por la columna de una FK reemplazan al que MySQL creó para la FK.
+-- =====================================================
+
+-- findByClub_IdClub, contarPorClub (agrupa por club y suma activos sin leer la tabla)
+CREATE INDEX idx_competidor_club_activo ON competidor (id_club, activo);
+
+-- findByCategoria_IdCategoria, contarPorCategoria, findParticipantes (categoría + activo, por ID)
+CREATE INDEX idx_competidor_categoria_activo ON competidor (id_categoria, activo);
+
+-- findByActivoTrueAndIdCompetidorGreaterThanOrderByIdCompetidorAsc (paginación de activos)
+CREATE INDEX idx_competidor_activo ON competidor (activo, id_competidor);
+
+-- findByEstado (pendientes de validación, activos), validación en bloque
+CREATE INDEX idx_club_estado ON club (estado);
+
+-- findByRol_IdRol
+CREATE INDEX idx_usuario_rol ON usuario (id_rol);
+
+-- findByCategoria_IdCategoriaOrderByIdTorneoDesc
+CREATE INDEX idx_torneo_categoria ON torneo (id_categoria);
+
+-- existsByIdTorneoAndRondaAndEstado (ronda suiza pendiente); por torneo y número ya lo cubre uk_enfrentamiento_torneo_numero
+CREATE INDEX idx_enfrentamiento_torneo_ronda ON enfrentamiento (id_torneo, ronda);
@@ -0,0 +1,145 @@
+package com.robotech;
+
+import com.robotech.model.Categoria;
+import com.robotech.model.Club;
+import com.robotech.model.Competidor;
+import com.robotech.model.Rol;
+import com.robotech.model.Usuario;
+import com.robotech.repository.CategoriaRepository;
+import com.robotech.repository.ClubRepository;
+import com.robotech.repository.CompetidorRepository;
+import com.robotech.repository.RolRepository;
+import com.robotech.repository.UsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que los endpoints de listado ejecuten un número acotado de sentencias SQL
+ * sin importar cuántas filas devuelvan (sin N+1 por asociaciones LAZY)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConsultasPorEndpointTests {
+
+    private static final int CLUBES = 6;
+    private static final int COMPETIDORES_POR_CLUB = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    private Integer idClub;
+    private Integer idCategoria;
+
+    @BeforeEach
+    void poblarDatos() {
+        competidorRepository.deleteAllInBatch();
+        clubRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        usuarioRepository.deleteAllInBatch();
+        rolRepository.deleteAllInBatch();
+        cacheManager.getCacheNames().forEach(nombre -> cacheManager.getCache(nombre).clear());
+
+        List<Rol> roles = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Rol rol = new Rol();
+            rol.setNombreRol("Rol " + i);
+            roles.add(rolRepository.save(rol));
+        }
+
+        List<Categoria> categorias = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Categoria categoria = new Categoria();
+            categoria.setNombreCategoria("Categoría " + i);
+            categorias.add(categoriaRepository.save(categoria));
+        }
+
+        // Cada club con un validador distinto para que un N+1 se note en el conteo
+        for (int i = 0; i < CLUBES; i++) {
+            Usuario validador = new Usuario();
+            validador.setCorreo("admin" + i + "@robotech.com");
+            validador.setPassword("x");
+            validador.setNombre("Admin " + i);
+            validador.setRol(roles.get(i % roles.size()));
+            validador = usuarioRepository.save(validador);
+
+            Club club = new Club();
+            club.setNombreClub("Club " + i);
+            club.setRepresentante("Representante " + i);
+            club.setCorreoRepresentante("club" + i + "@robotech.com");
+            club = clubRepository.save(club);
+            club.setEstado(Club.EstadoClub.Activo);
+            club.setFechaValidacion(LocalDateTime.now());
+            club.setUsuarioValidador(validador);
+            club = clubRepository.save(club);
+            idClub = club.getIdClub();
+
+            for (int j = 0; j < COMPETIDORES_POR_CLUB; j++) {
+                Competidor competidor = new Competidor();
+                competidor.setNombre("Nombre " + i + "-" + j);
+                competidor.setApellido("Apellido");
+                competidor.setDocumentoIdentidad(String.format("%08d", i * 100 + j));
+                competidor.setClub(club);
+                competidor.setCategoria(categorias.get((i + j) % categorias.size()));
+                competidorRepository.save(competidor);
+            }
+        }
+        idCategoria = categorias.get(0).getIdCategoria();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/competidores", "/competidores/activos", "/competidores/club/{club}", "/competidores/categoria/{categoria}",
+            "/clubes", "/clubes/activos", "/clubes/pendientes",
+            "/usuarios", "/usuarios/activos",
+            "/categorias", "/categorias/activas"
+    })
+    void listadoEjecutaComoMaximoUnaConsulta(String plantilla) throws Exception {
+        String url = plantilla.replace("{club}", idClub.toString()).replace("{categoria}", idCategoria.toString());
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+
+        assertThat(estadisticas.getPrepareStatementCount())
+                .as("sentencias SQL para GET %s", url)
+                .isLessThanOrEqualTo(1);
+    }
+}
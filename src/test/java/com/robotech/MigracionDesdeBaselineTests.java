@@ -0,0 +1,69 @@
+package com.robotech;
+
+import com.robotech.repository.CompetidorRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Arranque sobre una base creada con ddl-auto=update antes de las migraciones (db/esquema-previo.sql):
+ * Flyway la marca en V1, aplica desde V2 y Hibernate valida el resultado contra las entidades
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + MigracionDesdeBaselineTests.URL,
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"
+})
+class MigracionDesdeBaselineTests {
+
+    static final String URL = "jdbc:h2:mem:robotech_baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CompetidorRepository competidorRepository;
+
+    // Antes de que el contexto arranque y corra Flyway
+    @BeforeAll
+    static void crearEsquemaPrevio() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/esquema-previo.sql"))
+                .execute(new DriverManagerDataSource(URL, "sa", ""));
+    }
+
+    @Test
+    void seMarcaEnV1YSeAplicanLasSiguientes() {
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM flyway_schema_history "
+                + "WHERE success AND version IS NOT NULL ORDER BY installed_rank", String.class))
+                .containsExactly("1", "2", "3", "4");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT type FROM flyway_schema_history WHERE version = '1'", String.class))
+                .isEqualTo("BASELINE");
+        assertThat(competidorRepository.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM torneo", Long.class)).isZero();
+    }
+
+    @Test
+    void lasRestriccionesUnicasQuedanConSusNombres() {
+        assertThat(jdbcTemplate.queryForList("SELECT LOWER(constraint_name) FROM information_schema.table_constraints "
+                + "WHERE constraint_type = 'UNIQUE'", String.class))
+                .containsExactlyInAnyOrder("uk_rol_nombre", "uk_usuario_correo", "uk_usuario_telefono",
+                        "uk_categoria_nombre", "uk_club_nombre", "uk_club_correo_representante",
+                        "uk_competidor_documento", "uk_enfrentamiento_torneo_numero");
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO competidor (nombre, apellido, documento_identidad, "
+                + "id_club, id_categoria, activo, fecha_inscripcion) VALUES ('Eva', 'Mamani', '45120001', 1, 1, TRUE, "
+                + "CURRENT_TIMESTAMP)"))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("uk_competidor_documento");
+    }
+}
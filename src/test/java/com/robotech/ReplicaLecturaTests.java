@@ -0,0 +1,146 @@
+package com.robotech;
+
+import com.robotech.config.RuteoLecturaEscritura;
+import com.robotech.model.Club;
+import com.robotech.service.ClubService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Ruteo a la réplica de lectura con dos bases H2: la réplica recibe una copia del esquema y datos
+ * propios, así se distingue de qué base salió cada lectura
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:robotech_primaria;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "robotech.replica.url=jdbc:h2:mem:robotech_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@Import(ReplicaLecturaTests.LeerYRegistrarController.class)
+class ReplicaLecturaTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    @Qualifier("primaria")
+    private DataSource primaria;
+
+    @Autowired
+    @Qualifier("replica")
+    private DataSource replica;
+
+    @BeforeEach
+    void copiarEsquema() {
+        JdbcTemplate jdbcPrimaria = new JdbcTemplate(primaria);
+        JdbcTemplate jdbcReplica = new JdbcTemplate(replica);
+        jdbcPrimaria.update("DELETE FROM club");
+        jdbcReplica.execute("DROP ALL OBJECTS");
+        for (String sentencia : jdbcPrimaria.queryForList("SCRIPT NODATA", String.class)) {
+            jdbcReplica.execute(sentencia);
+        }
+        jdbcReplica.update("INSERT INTO club (nombre_club, representante, correo_representante, estado, fecha_registro) "
+                + "VALUES ('Solo en réplica', 'Ana', 'ana@replica.pe', 'Activo', CURRENT_TIMESTAMP)");
+    }
+
+    @Test
+    void lasLecturasVanALaReplicaYLasEscriturasALaPrimaria() throws Exception {
+        clubService.registrarClub(club("Kuntur"));
+
+        assertThat(nombres(clubService.listarTodos(null, null).getContenido())).containsExactly("Solo en réplica");
+        assertThat(new JdbcTemplate(primaria).queryForList("SELECT nombre_club FROM club", String.class))
+                .containsExactly("Kuntur");
+
+        mockMvc.perform(get("/clubes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].nombreClub").value("Solo en réplica"));
+    }
+
+    @Test
+    void despuesDeEscribirLaPeticionLeeDeLaPrimaria() {
+        RuteoLecturaEscritura.abrirPeticion();
+        try {
+            assertThat(nombres(clubService.listarTodos(null, null).getContenido())).containsExactly("Solo en réplica");
+            clubService.registrarClub(club("Kuntur"));
+            assertThat(nombres(clubService.listarTodos(null, null).getContenido())).containsExactly("Kuntur");
+        } finally {
+            RuteoLecturaEscritura.cerrarPeticion();
+        }
+    }
+
+    @Test
+    void losActivosConETagSeLeenDeLaPrimaria() throws Exception {
+        JdbcTemplate jdbcReplica = new JdbcTemplate(replica);
+        jdbcReplica.update("INSERT INTO categoria (nombre_categoria, activo, fecha_creacion) "
+                + "VALUES ('Minisumo', TRUE, CURRENT_TIMESTAMP)");
+        jdbcReplica.update("INSERT INTO competidor (nombre, apellido, id_club, id_categoria, activo, fecha_inscripcion) "
+                + "SELECT 'Ana', 'Quispe', id_club, id_categoria, TRUE, CURRENT_TIMESTAMP FROM club, categoria");
+
+        mockMvc.perform(get("/competidores/activos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido").isEmpty());
+    }
+
+    /**
+     * Con open-in-view la petición comparte un EntityManager: la escritura no debe reutilizar
+     * la conexión a la réplica que abrió la lectura anterior
+     */
+    @Test
+    void unaEscrituraDespuesDeLeerEnLaMismaPeticionVaALaPrimaria() throws Exception {
+        mockMvc.perform(post("/prueba/leer-y-registrar"))
+                .andExpect(status().isOk());
+
+        assertThat(new JdbcTemplate(primaria).queryForList("SELECT nombre_club FROM club", String.class))
+                .containsExactly("Kuntur");
+        assertThat(new JdbcTemplate(replica).queryForList("SELECT nombre_club FROM club", String.class))
+                .containsExactly("Solo en réplica");
+    }
+
+    @RestController
+    static class LeerYRegistrarController {
+
+        private final ClubService clubService;
+
+        LeerYRegistrarController(ClubService clubService) {
+            this.clubService = clubService;
+        }
+
+        @PostMapping("/prueba/leer-y-registrar")
+        void leerYRegistrar() {
+            clubService.listarTodos(null, null);
+            clubService.registrarClub(club("Kuntur"));
+        }
+    }
+
+    private static Club club(String nombre) {
+        Club club = new Club();
+        club.setNombreClub(nombre);
+        club.setRepresentante("Luis");
+        club.setCorreoRepresentante(nombre.toLowerCase() + "@robotech.pe");
+        return club;
+    }
+
+    private static List<String> nombres(List<Club> clubes) {
+        return clubes.stream().map(Club::getNombreClub).toList();
+    }
+}
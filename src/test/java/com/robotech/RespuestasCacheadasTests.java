@@ -0,0 +1,177 @@
+package com.robotech;
+
+import com.robotech.model.Categoria;
+import com.robotech.service.CategoriaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET condicional (ETag) y bytes cacheados de CacheRespuestas en /categorias/activas
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RespuestasCacheadasTests {
+
+    private static final String URL = "/categorias/activas";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String prefijo;
+    private Categoria primera;
+    private Categoria segunda;
+
+    // Suficientes categorías para que el JSON pase robotech.respuestas.gzip-minimo y se guarde comprimido
+    @BeforeEach
+    void crearCategorias() {
+        prefijo = "Cache " + System.nanoTime() + " ";
+        for (int i = 0; i < 12; i++) {
+            Categoria categoria = new Categoria();
+            categoria.setNombreCategoria(prefijo + i);
+            categoria.setDescripcion("Robots seguidores de línea para competidores de " + (8 + i) + " años");
+            categoria.setEdadMinima(8 + i);
+            categoria.setEdadMaxima(18);
+            Categoria creada = categoriaService.crearCategoria(categoria);
+            if (i == 0) {
+                primera = creada;
+            } else if (i == 1) {
+                segunda = creada;
+            }
+        }
+    }
+
+    @Test
+    void conLaVersionVigenteResponde304SinConsultarLaBase() throws Exception {
+        String etag = mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics estadisticas = estadisticas();
+        MockHttpServletResponse noModificada = mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse();
+        assertThat(noModificada.getContentAsByteArray()).isEmpty();
+        assertThat(estadisticas.getPrepareStatementCount()).isZero();
+
+        // Un cambio confirmado avanza la versión: el ETag anterior ya no sirve
+        categoriaService.actualizarCategoria(primera.getIdCategoria(), renombrada(primera, prefijo + "renombrada"));
+        MockHttpServletResponse cambiada = mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(cambiada.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(cambiada.getContentAsString()).contains(prefijo + "renombrada");
+    }
+
+    @Test
+    void mientrasLaVersionNoCambiaSeRespondenLosMismosBytes() throws Exception {
+        byte[] json = mockMvc.perform(get(URL)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Un cambio por fuera del servicio no avanza la versión; sin las cachés de Spring
+        // solo los bytes guardados evitan leerlo
+        jdbcTemplate.update("UPDATE categoria SET descripcion = 'cambiada por fuera' WHERE id_categoria = ?",
+                primera.getIdCategoria());
+        cacheManager.getCacheNames().forEach(nombre -> cacheManager.getCache(nombre).clear());
+
+        Statistics estadisticas = estadisticas();
+        byte[] repetido = mockMvc.perform(get(URL)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(repetido).isEqualTo(json);
+        assertThat(estadisticas.getPrepareStatementCount()).isZero();
+
+        // Otro cambio confirmado avanza la versión y la respuesta se vuelve a leer
+        categoriaService.actualizarCategoria(segunda.getIdCategoria(), renombrada(segunda, prefijo + "renombrada"));
+        assertThat(mockMvc.perform(get(URL)).andReturn().getResponse().getContentAsString())
+                .contains("cambiada por fuera", prefijo + "renombrada");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "gzip|true",
+            "gzip, deflate, br|true",
+            "br, GZIP;q=0.8|true",
+            "x-gzip|true",
+            "*|true",
+            "gzip;q=0|false",
+            "deflate, gzip; q=0.000|false",
+            "gzip;q=0, *|false",
+            "*;q=0|false",
+            "br;q=1, *;q=0|false",
+            "gzip;q=abc|false",
+            "identity|false",
+            "deflate, br|false"
+    })
+    void respetaLosValoresQDeAcceptEncoding(String aceptadas, boolean gzip) throws Exception {
+        byte[] json = mockMvc.perform(get(URL)).andReturn().getResponse().getContentAsByteArray();
+        assertThat(json.length).isGreaterThan(1024);
+
+        MockHttpServletResponse respuesta = mockMvc.perform(get(URL).header(HttpHeaders.ACCEPT_ENCODING, aceptadas))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(respuesta.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            assertThat(respuesta.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(descomprimir(respuesta.getContentAsByteArray())).isEqualTo(json);
+        } else {
+            assertThat(respuesta.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(respuesta.getContentAsByteArray()).isEqualTo(json);
+        }
+    }
+
+    private Statistics estadisticas() {
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        return estadisticas;
+    }
+
+    private static Categoria renombrada(Categoria categoria, String nombre) {
+        Categoria cambios = new Categoria();
+        cambios.setNombreCategoria(nombre);
+        cambios.setDescripcion(categoria.getDescripcion());
+        cambios.setEdadMinima(categoria.getEdadMinima());
+        cambios.setEdadMaxima(categoria.getEdadMaxima());
+        return cambios;
+    }
+
+    private static byte[] descomprimir(byte[] comprimido) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            return entrada.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.robotech.busqueda;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TriePrefijosTests {
+
+    @Test
+    void puntuaExactaPrefijoYConUnError() {
+        assertThat(TriePrefijos.puntaje("juan", "juan", 1)).isEqualTo(TriePrefijos.PUNTAJE_EXACTA);
+        assertThat(TriePrefijos.puntaje("juan", "juana", 1)).isEqualTo(TriePrefijos.PUNTAJE_PREFIJO);
+        assertThat(TriePrefijos.puntaje("jaun", "juan", 1)).isEqualTo(TriePrefijos.PUNTAJE_EXACTA_CON_ERROR);
+        assertThat(TriePrefijos.puntaje("robto", "robotin", 1)).isEqualTo(TriePrefijos.PUNTAJE_PREFIJO_CON_ERROR);
+        assertThat(TriePrefijos.puntaje("juan", "pedro", 1)).isZero();
+        assertThat(TriePrefijos.puntaje("jaun", "juan", 0)).isZero();
+    }
+
+    @Test
+    void coincideConPuntuarCadaPalabra() {
+        Random azar = new Random(11);
+        TriePrefijos trie = new TriePrefijos();
+        String[] palabras = new String[3000];
+        for (int id = 0; id < palabras.length; id++) {
+            palabras[id] = palabraAlAzar(azar, 1 + azar.nextInt(7));
+            trie.agregar(palabras[id], id);
+        }
+        // Quitar algunas para probar también la eliminación
+        for (int id = 0; id < palabras.length; id += 7) {
+            trie.quitar(palabras[id], id);
+            palabras[id] = null;
+        }
+
+        for (int consulta = 0; consulta < 300; consulta++) {
+            String termino = palabraAlAzar(azar, 2 + azar.nextInt(4));
+            int maximoErrores = consulta % 2;
+            Map<Integer, Integer> obtenidos = new HashMap<>();
+            trie.buscar(termino, maximoErrores, Long.MAX_VALUE, (id, puntaje) -> obtenidos.merge(id, puntaje, Math::max));
+
+            Map<Integer, Integer> esperados = new HashMap<>();
+            for (int id = 0; id < palabras.length; id++) {
+                int puntaje = palabras[id] != null ? TriePrefijos.puntaje(termino, palabras[id], maximoErrores) : 0;
+                if (puntaje > 0) {
+                    esperados.put(id, puntaje);
+                }
+            }
+            assertThat(obtenidos).as(termino).isEqualTo(esperados);
+        }
+    }
+
+    @Test
+    void noRecorreMasDelPesoMaximo() {
+        TriePrefijos trie = new TriePrefijos();
+        trie.agregar("ana", 1);
+        trie.agregar("anabel", 2);
+
+        Map<Integer, Integer> puntajes = new HashMap<>();
+        // El subárbol de "an" tiene 5 nodos (an, ana, anab, anabe, anabel) y 2 IDs
+        assertThat(trie.buscar("an", 0, 6, (id, puntaje) -> puntajes.put(id, puntaje))).isFalse();
+        assertThat(puntajes).isEmpty();
+        assertThat(trie.buscar("an", 0, 7, (id, puntaje) -> puntajes.put(id, puntaje))).isTrue();
+        assertThat(puntajes).containsOnlyKeys(1, 2);
+    }
+
+    private static String palabraAlAzar(Random azar, int largo) {
+        // Alfabeto chico para que haya muchos prefijos compartidos y coincidencias con error
+        StringBuilder palabra = new StringBuilder();
+        for (int i = 0; i < largo; i++) {
+            palabra.append((char) ('a' + azar.nextInt(4)));
+        }
+        return palabra.toString();
+    }
+}
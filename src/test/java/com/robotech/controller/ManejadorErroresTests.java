@@ -0,0 +1,85 @@
+package com.robotech.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.emptyOrNullString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Estado y cuerpo { "success": false, "message": ... } de cada tipo de error
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ManejadorErroresTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void noEncontradoEs404() throws Exception {
+        error(mockMvc.perform(put("/clubes/{id}/aprobar", Integer.MAX_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"idAdminValidador\": 1}")), 404)
+                .andExpect(jsonPath("$.message").value("Club no encontrado"));
+    }
+
+    @Test
+    void conflictoEs409() throws Exception {
+        String club = club("Club Conflicto " + System.nanoTime(), "conflicto" + System.nanoTime() + "@robotech.com");
+        mockMvc.perform(post("/clubes").contentType(MediaType.APPLICATION_JSON).content(club))
+                .andExpect(status().isCreated());
+
+        error(mockMvc.perform(post("/clubes").contentType(MediaType.APPLICATION_JSON).content(club)), 409)
+                .andExpect(jsonPath("$.message").value("Ya existe un club con ese nombre"));
+    }
+
+    @Test
+    void validacionEs400() throws Exception {
+        error(mockMvc.perform(get("/categorias/elegibles")), 400)
+                .andExpect(jsonPath("$.message").value("Debe indicar la edad o la fecha de nacimiento"));
+    }
+
+    @Test
+    void jsonMalFormadoEs400() throws Exception {
+        error(mockMvc.perform(post("/clubes").contentType(MediaType.APPLICATION_JSON).content("{\"nombreClub\": ")), 400)
+                .andExpect(jsonPath("$.message", not(emptyOrNullString())));
+    }
+
+    @Test
+    void unaRestriccionUnicaVioladaEs409ConElMensajeDelServicio() throws Exception {
+        // Otra instancia la insertó: los filtros de unicidad de esta no la conocen y el pre-chequeo no consulta
+        String nombre = "Club Carrera " + System.nanoTime();
+        jdbcTemplate.update("INSERT INTO club (nombre_club, representante, correo_representante, estado, "
+                + "fecha_registro) VALUES (?, 'Otra instancia', ?, 'Pendiente', CURRENT_TIMESTAMP)",
+                nombre, "carrera" + System.nanoTime() + "@robotech.com");
+
+        error(mockMvc.perform(post("/clubes").contentType(MediaType.APPLICATION_JSON)
+                .content(club(nombre, "carrera" + System.nanoTime() + "@robotech.com"))), 409)
+                .andExpect(jsonPath("$.message").value("Ya existe un club con ese nombre"));
+    }
+
+    private static ResultActions error(ResultActions resultado, int estado) throws Exception {
+        return resultado.andExpect(status().is(estado))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private static String club(String nombre, String correo) {
+        return "{\"nombreClub\": \"" + nombre + "\", \"representante\": \"Representante\", "
+                + "\"correoRepresentante\": \"" + correo + "\"}";
+    }
+}
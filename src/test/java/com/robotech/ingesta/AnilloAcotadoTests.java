@@ -0,0 +1,81 @@
+package com.robotech.ingesta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnilloAcotadoTests {
+
+    @Test
+    void rechazaCuandoEstaLlenoYConservaElOrden() {
+        AnilloAcotado<Integer> anillo = new AnilloAcotado<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(anillo.ofrecer(i)).isTrue();
+        }
+        assertThat(anillo.ofrecer(4)).isFalse();
+
+        assertThat(anillo.tomar()).isEqualTo(0);
+        assertThat(anillo.ofrecer(4)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            assertThat(anillo.tomar()).isEqualTo(i);
+        }
+        assertThat(anillo.tomar()).isNull();
+    }
+
+    @Test
+    void variosProductoresEntreganCadaElementoUnaVez() throws Exception {
+        int productores = 4;
+        int porProductor = 200_000;
+        AnilloAcotado<Integer> anillo = new AnilloAcotado<>(1024);
+        CountDownLatch inicio = new CountDownLatch(1);
+
+        List<Thread> hilos = new ArrayList<>();
+        for (int p = 0; p < productores; p++) {
+            int base = p * porProductor;
+            Thread hilo = new Thread(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < porProductor; i++) {
+                    while (!anillo.ofrecer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            hilo.start();
+            hilos.add(hilo);
+        }
+
+        BitSet recibidos = new BitSet(productores * porProductor);
+        int[] ultimoPorProductor = new int[productores];
+        Arrays.fill(ultimoPorProductor, -1);
+        inicio.countDown();
+        for (int total = 0; total < productores * porProductor; ) {
+            Integer valor = anillo.tomar();
+            if (valor == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertThat(recibidos.get(valor)).isFalse();
+            recibidos.set(valor);
+            // Cada productor se lee en el orden en que escribió
+            int productor = valor / porProductor;
+            assertThat(valor).isGreaterThan(ultimoPorProductor[productor]);
+            ultimoPorProductor[productor] = valor;
+            total++;
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        assertThat(recibidos.cardinality()).isEqualTo(productores * porProductor);
+        assertThat(anillo.tomar()).isNull();
+    }
+}
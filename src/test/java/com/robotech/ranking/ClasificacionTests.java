@@ -0,0 +1,62 @@
+package com.robotech.ranking;
+
+import com.robotech.dto.PosicionRanking;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasificacionTests {
+
+    @Test
+    void coincideConUnOrdenamientoCompleto() {
+        Clasificacion clasificacion = new Clasificacion();
+        Map<Integer, Long> esperado = new HashMap<>();
+        Random azar = new Random(7);
+
+        for (int paso = 0; paso < 20_000; paso++) {
+            int idCompetidor = 1 + azar.nextInt(500);
+            long puntos = azar.nextInt(7) - 2;
+            PosicionRanking cambio = clasificacion.sumar(idCompetidor, puntos);
+            esperado.merge(idCompetidor, puntos, Long::sum);
+
+            assertThat(cambio.puntos()).isEqualTo(esperado.get(idCompetidor));
+            if (paso % 1000 == 0) {
+                verificar(clasificacion, esperado);
+            }
+        }
+        verificar(clasificacion, esperado);
+    }
+
+    @Test
+    void paginaFueraDeRangoDevuelveVacio() {
+        Clasificacion clasificacion = new Clasificacion();
+        clasificacion.sumar(1, 10);
+
+        assertThat(clasificacion.pagina(2, 10)).isEmpty();
+        assertThat(clasificacion.posicion(2)).isEmpty();
+    }
+
+    private static void verificar(Clasificacion clasificacion, Map<Integer, Long> esperado) {
+        List<Map.Entry<Integer, Long>> orden = new ArrayList<>(esperado.entrySet());
+        orden.sort(Comparator.<Map.Entry<Integer, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        assertThat(clasificacion.tamanio()).isEqualTo(orden.size());
+        List<PosicionRanking> pagina = clasificacion.pagina(1, orden.size());
+        for (int i = 0; i < orden.size(); i++) {
+            assertThat(pagina.get(i)).isEqualTo(new PosicionRanking(orden.get(i).getKey(), orden.get(i).getValue(), i + 1));
+            assertThat(clasificacion.posicion(orden.get(i).getKey()).orElseThrow().posicion()).isEqualTo(i + 1);
+        }
+        int desde = 1 + orden.size() / 3;
+        assertThat(clasificacion.pagina(desde, 5)).extracting(PosicionRanking::idCompetidor)
+                .containsExactlyElementsOf(orden.subList(desde - 1, Math.min(desde + 4, orden.size()))
+                        .stream().map(Map.Entry::getKey).toList());
+    }
+}
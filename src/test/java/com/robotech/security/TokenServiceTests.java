@@ -0,0 +1,183 @@
+package com.robotech.security;
+
+import com.robotech.model.Rol;
+import com.robotech.model.Usuario;
+import com.robotech.repository.RolRepository;
+import com.robotech.repository.UsuarioRepository;
+import com.robotech.service.UsuarioService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Firma, verificación y revocación de los tokens de sesión
+ */
+@SpringBootTest
+class TokenServiceTests {
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RevocacionTokens revocacionTokens;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${robotech.token.secreto}")
+    private String secreto;
+
+    private Usuario usuario;
+    private Rol otroRol;
+
+    @BeforeEach
+    void crearUsuario() {
+        long sufijo = System.nanoTime();
+        Rol rol = new Rol();
+        rol.setNombreRol("Juez " + sufijo);
+        rol = rolRepository.save(rol);
+        otroRol = new Rol();
+        otroRol.setNombreRol("Organizador " + sufijo);
+        otroRol = rolRepository.save(otroRol);
+
+        usuario = new Usuario();
+        usuario.setCorreo("token" + sufijo + "@robotech.com");
+        usuario.setPassword("x");
+        usuario.setNombre("Token");
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+    }
+
+    @Test
+    void unTokenEmitidoSeVerificaConSusDatos() {
+        long antes = System.currentTimeMillis();
+        String token = tokenService.emitir(usuario);
+
+        PrincipalUsuario principal = tokenService.verificar(token).orElseThrow();
+        assertThat(principal.idUsuario()).isEqualTo(usuario.getIdUsuario());
+        assertThat(principal.rol()).isEqualTo(usuario.getRol().getNombreRol());
+        assertThat(principal.emitidoEn()).isBetween(antes, System.currentTimeMillis());
+        assertThat(principal.expiraEn() - principal.emitidoEn())
+                .isEqualTo(tokenService.getDuracionSegundos() * 1000);
+        // La segunda verificación sale de la caché de principales
+        assertThat(tokenService.verificar(token)).contains(principal);
+    }
+
+    @Test
+    void seRechazaUnTokenAlteradoOMalFormado() {
+        String token = tokenService.emitir(usuario);
+        int punto = token.indexOf('.');
+        String firma = token.substring(punto + 1);
+        long ahora = System.currentTimeMillis();
+
+        // Mismo contenido con otro rol, conservando la firma original
+        String contenidoAlterado = BASE64.encodeToString((usuario.getIdUsuario() + "|" + ahora + "|"
+                + (ahora + 60_000) + "|Administrador").getBytes(StandardCharsets.UTF_8));
+        assertThat(tokenService.verificar(contenidoAlterado + "." + firma)).isEmpty();
+
+        char ultimo = firma.charAt(firma.length() - 1);
+        String firmaAlterada = firma.substring(0, firma.length() - 1) + (ultimo == 'A' ? 'B' : 'A');
+        assertThat(tokenService.verificar(token.substring(0, punto + 1) + firmaAlterada)).isEmpty();
+
+        assertThat(tokenService.verificar("sin-punto")).isEmpty();
+        assertThat(tokenService.verificar(token + ".extra")).isEmpty();
+        assertThat(tokenService.verificar("%%%." + firma)).isEmpty();
+        assertThat(tokenService.verificar(firmado(secreto, "no|es|un-numero|Juez"))).isEmpty();
+    }
+
+    @Test
+    void seRechazaUnTokenDeOtroSecretoOVencido() {
+        long ahora = System.currentTimeMillis();
+        String contenido = usuario.getIdUsuario() + "|" + ahora + "|" + (ahora + 60_000) + "|Juez";
+        assertThat(tokenService.verificar(firmado(secreto, contenido))).isPresent();
+        assertThat(tokenService.verificar(firmado("otro-secreto-de-al-menos-32-bytes-0123", contenido))).isEmpty();
+
+        String vencido = usuario.getIdUsuario() + "|" + (ahora - 120_000) + "|" + (ahora - 60_000) + "|Juez";
+        assertThat(tokenService.verificar(firmado(secreto, vencido))).isEmpty();
+    }
+
+    @Test
+    void unSecretoCortoNoSeAcepta() {
+        assertThatThrownBy(() -> new TokenService("corto", Duration.ofHours(8), 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void revocarInvalidaSoloLosTokensEmitidosHastaEseMomento() throws InterruptedException {
+        String anterior = tokenService.emitir(usuario);
+        assertThat(tokenService.verificar(anterior)).isPresent();
+
+        revocacionTokens.revocar(usuario.getIdUsuario());
+        assertThat(tokenService.verificar(anterior)).isEmpty();
+
+        // La marca es por milisegundo: un token del mismo instante también queda revocado
+        Thread.sleep(2);
+        assertThat(tokenService.verificar(tokenService.emitir(usuario))).isPresent();
+    }
+
+    @Test
+    void cambiarElRolRevocaLosTokensDespuesDelCommit() {
+        String token = tokenService.emitir(usuario);
+
+        transactionTemplate.executeWithoutResult(estado -> {
+            usuarioService.actualizarRol(usuario.getIdUsuario(), otroRol.getIdRol());
+            // Sin confirmar todavía: el cambio puede deshacerse
+            assertThat(tokenService.verificar(token)).isPresent();
+        });
+
+        assertThat(tokenService.verificar(token)).isEmpty();
+    }
+
+    @Test
+    void unCambioDeEstadoDeshechoNoRevoca() {
+        String token = tokenService.emitir(usuario);
+
+        transactionTemplate.executeWithoutResult(estado -> {
+            usuarioService.cambiarEstado(usuario.getIdUsuario(), false);
+            estado.setRollbackOnly();
+        });
+
+        assertThat(tokenService.verificar(token)).isPresent();
+        assertThat(usuarioRepository.findById(usuario.getIdUsuario()).orElseThrow().getActivo()).isTrue();
+
+        usuarioService.cambiarEstado(usuario.getIdUsuario(), false);
+        assertThat(tokenService.verificar(token)).isEmpty();
+    }
+
+    /**
+     * Token con el formato de TokenService, firmado con el secreto indicado
+     */
+    private static String firmado(String secreto, String contenido) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secreto.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] bytes = contenido.getBytes(StandardCharsets.UTF_8);
+            return BASE64.encodeToString(bytes) + "." + BASE64.encodeToString(mac.doFinal(bytes));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.robotech.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArbolIntervalosTests {
+
+    @Test
+    void coincideConRecorrerTodosLosIntervalos() {
+        Random azar = new Random(3);
+        ArbolIntervalos<Integer> arbol = ArbolIntervalos.vacio();
+        Map<Integer, int[]> intervalos = new HashMap<>();
+
+        for (int paso = 0; paso < 5000; paso++) {
+            int id = azar.nextInt(300);
+            int[] anterior = intervalos.remove(id);
+            if (anterior != null) {
+                arbol = arbol.eliminar(anterior[0], id);
+            }
+            if (azar.nextInt(4) > 0) {
+                int inicio = azar.nextInt(30);
+                int fin = inicio + azar.nextInt(15);
+                arbol = arbol.insertar(inicio, fin, id, id);
+                intervalos.put(id, new int[]{inicio, fin});
+            }
+
+            assertThat(arbol.tamanio()).isEqualTo(intervalos.size());
+            int punto = azar.nextInt(50);
+            List<Integer> esperado = new ArrayList<>();
+            intervalos.forEach((clave, rango) -> {
+                if (rango[0] <= punto && punto <= rango[1]) {
+                    esperado.add(clave);
+                }
+            });
+            assertThat(arbol.contienen(punto)).containsExactlyInAnyOrderElementsOf(esperado);
+        }
+    }
+
+    @Test
+    void lasVersionesAnterioresNoCambian() {
+        ArbolIntervalos<String> vacio = ArbolIntervalos.vacio();
+        ArbolIntervalos<String> uno = vacio.insertar(10, 12, 1, "Sumo");
+        ArbolIntervalos<String> dos = uno.insertar(8, 18, 2, "Seguidor");
+
+        assertThat(uno.contienen(11)).containsExactly("Sumo");
+        assertThat(dos.contienen(11)).containsExactly("Seguidor", "Sumo");
+        assertThat(dos.eliminar(10, 1).contienen(11)).containsExactly("Seguidor");
+        assertThat(vacio.tamanio()).isZero();
+    }
+}
@@ -0,0 +1,168 @@
+package com.robotech.service;
+
+import com.robotech.dto.Participante;
+import com.robotech.model.Enfrentamiento;
+import com.robotech.model.Enfrentamiento.EstadoEnfrentamiento;
+import com.robotech.model.Enfrentamiento.Llave;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneradorLlavesTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 5, 16, 100, 1000})
+    void eliminacionSimpleCompletaYSinCompanerosDeClubAntesDeLaFinal(int n) {
+        // Clubes de dos integrantes: solo pueden cruzarse en la final
+        List<Participante> participantes = participantes(n, (n + 1) / 2);
+        List<Enfrentamiento> llave = GeneradorLlaves.eliminacionSimple(participantes);
+        int rondas = GeneradorLlaves.rondas(n);
+
+        assertThat(llave).hasSize((1 << rondas) - 1);
+        Map<Integer, Integer> clubPorCompetidor = clubPorCompetidor(participantes);
+        Resultado resultado = simular(llave, new Random(n));
+
+        assertThat(resultado.campeon).isNotNull();
+        for (Enfrentamiento jugado : resultado.jugados) {
+            if (jugado.getRonda() < rondas) {
+                assertThat(clubPorCompetidor.get(jugado.getIdCompetidorA()))
+                        .isNotEqualTo(clubPorCompetidor.get(jugado.getIdCompetidorB()));
+            }
+        }
+        assertThat(resultado.derrotas.values()).allMatch(derrotas -> derrotas == 1);
+        assertThat(resultado.derrotas).hasSize(n - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 7, 8, 33, 1000})
+    void eliminacionDobleEliminaConDosDerrotas(int n) {
+        List<Participante> participantes = participantes(n, 10);
+        List<Enfrentamiento> llave = GeneradorLlaves.eliminacionDoble(participantes);
+
+        Resultado resultado = simular(llave, new Random(n));
+
+        assertThat(resultado.campeon).isNotNull();
+        assertThat(resultado.derrotas.getOrDefault(resultado.campeon, 0)).isLessThanOrEqualTo(1);
+        // Sin desempate en la gran final, el subcampeón puede quedar con una sola derrota
+        assertThat(resultado.derrotas.size()).isGreaterThanOrEqualTo(n - 1);
+        assertThat(resultado.derrotas.values()).allMatch(derrotas -> derrotas <= 2);
+        long eliminados = resultado.derrotas.values().stream().filter(derrotas -> derrotas == 2).count();
+        assertThat(eliminados).isGreaterThanOrEqualTo(n - 2);
+        assertThat(llave).filteredOn(e -> e.getLlave() == Llave.GranFinal).hasSize(1);
+    }
+
+    @Test
+    void suizoPrimeraRondaDaByeAlImparYEvitaMismoClub() {
+        List<Participante> participantes = participantes(11, 3);
+        List<Enfrentamiento> ronda = GeneradorLlaves.suizoPrimeraRonda(participantes);
+        Map<Integer, Integer> clubPorCompetidor = clubPorCompetidor(participantes);
+
+        assertThat(ronda).hasSize(6);
+        assertThat(ronda).filteredOn(e -> e.getEstado() == EstadoEnfrentamiento.Bye).hasSize(1);
+        Set<Integer> vistos = new HashSet<>();
+        for (Enfrentamiento enfrentamiento : ronda) {
+            assertThat(vistos.add(enfrentamiento.getIdCompetidorA())).isTrue();
+            if (enfrentamiento.getIdCompetidorB() != null) {
+                assertThat(vistos.add(enfrentamiento.getIdCompetidorB())).isTrue();
+                assertThat(clubPorCompetidor.get(enfrentamiento.getIdCompetidorA()))
+                        .isNotEqualTo(clubPorCompetidor.get(enfrentamiento.getIdCompetidorB()));
+            }
+        }
+        assertThat(vistos).hasSize(11);
+    }
+
+    @Test
+    void rondaSuizaEvitaRevanchas() {
+        List<Participante> participantes = participantes(4, 4);
+        Set<Long> previos = Set.of(GeneradorLlaves.clavePar(1, 2), GeneradorLlaves.clavePar(3, 4));
+
+        List<Enfrentamiento> ronda = GeneradorLlaves.rondaSuiza(participantes, previos, 2, 3);
+
+        assertThat(ronda).extracting(Enfrentamiento::getNumero).containsExactly(3, 4);
+        for (Enfrentamiento enfrentamiento : ronda) {
+            assertThat(previos).doesNotContain(
+                    GeneradorLlaves.clavePar(enfrentamiento.getIdCompetidorA(), enfrentamiento.getIdCompetidorB()));
+        }
+    }
+
+    private static List<Participante> participantes(int n, int clubes) {
+        List<Participante> participantes = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            participantes.add(new Participante(i, 1 + i % clubes));
+        }
+        return participantes;
+    }
+
+    private static Map<Integer, Integer> clubPorCompetidor(List<Participante> participantes) {
+        Map<Integer, Integer> clubes = new HashMap<>();
+        for (Participante participante : participantes) {
+            clubes.put(participante.idCompetidor(), participante.idClub());
+        }
+        return clubes;
+    }
+
+    /**
+     * Juega la llave en orden de numeración con ganadores al azar, siguiendo siguienteGanador/siguientePerdedor
+     */
+    private static Resultado simular(List<Enfrentamiento> llave, Random azar) {
+        Map<Integer, List<Integer>> llegan = new HashMap<>();
+        Resultado resultado = new Resultado();
+        for (Enfrentamiento enfrentamiento : llave) {
+            List<Integer> presentes = new ArrayList<>(llegan.getOrDefault(enfrentamiento.getNumero(), List.of()));
+            if (enfrentamiento.getIdCompetidorA() != null && !presentes.contains(enfrentamiento.getIdCompetidorA())) {
+                presentes.add(enfrentamiento.getIdCompetidorA());
+            }
+            if (enfrentamiento.getIdCompetidorB() != null && !presentes.contains(enfrentamiento.getIdCompetidorB())) {
+                presentes.add(enfrentamiento.getIdCompetidorB());
+            }
+
+            if (enfrentamiento.getEstado() == EstadoEnfrentamiento.Bye) {
+                assertThat(presentes).hasSizeLessThanOrEqualTo(1);
+                if (!presentes.isEmpty()) {
+                    enviar(llegan, enfrentamiento.getSiguienteGanador(), presentes.get(0), resultado);
+                }
+                continue;
+            }
+
+            assertThat(presentes).as("enfrentamiento %d", enfrentamiento.getNumero()).hasSize(2);
+            Enfrentamiento jugado = new Enfrentamiento();
+            jugado.setRonda(enfrentamiento.getRonda());
+            jugado.setIdCompetidorA(presentes.get(0));
+            jugado.setIdCompetidorB(presentes.get(1));
+            resultado.jugados.add(jugado);
+
+            int ganador = azar.nextInt(2);
+            Integer perdedor = presentes.get(1 - ganador);
+            resultado.derrotas.merge(perdedor, 1, Integer::sum);
+            enviar(llegan, enfrentamiento.getSiguienteGanador(), presentes.get(ganador), resultado);
+            if (enfrentamiento.getSiguientePerdedor() != null) {
+                enviar(llegan, enfrentamiento.getSiguientePerdedor(), perdedor, resultado);
+            }
+        }
+        return resultado;
+    }
+
+    private static void enviar(Map<Integer, List<Integer>> llegan, Integer destino, Integer competidor, Resultado resultado) {
+        if (destino == null) {
+            resultado.campeon = competidor;
+        } else {
+            llegan.computeIfAbsent(destino, numero -> new ArrayList<>()).add(competidor);
+        }
+    }
+
+    private static final class Resultado {
+        private final List<Enfrentamiento> jugados = new ArrayList<>();
+        private final Map<Integer, Integer> derrotas = new HashMap<>();
+        private Integer campeon;
+    }
+}
@@ -0,0 +1,92 @@
+package com.robotech.unicidad;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FiltroBloomTests {
+
+    @Test
+    void noTieneFalsosNegativosYRespetaLaTasa() {
+        FiltroBloom filtro = new FiltroBloom(20000, 0.01);
+        for (int i = 0; i < 20000; i++) {
+            filtro.agregar(dni(i));
+        }
+        for (int i = 0; i < 20000; i++) {
+            assertThat(filtro.contiene(dni(i))).as(dni(i)).isTrue();
+        }
+
+        int falsosPositivos = 0;
+        for (int i = 20000; i < 120000; i++) {
+            if (filtro.contiene(dni(i))) {
+                falsosPositivos++;
+            }
+        }
+        // 1% esperado sobre 100000 consultas; margen para la varianza
+        assertThat(falsosPositivos).isBetween(1, 1500);
+        assertThat(filtro.saturado()).isFalse();
+    }
+
+    @Test
+    void dimensionaBitsYFunciones() {
+        FiltroBloom filtro = new FiltroBloom(1000, 0.01);
+        // m ≈ 9.59 bits por valor, k ≈ 7
+        assertThat(filtro.bits()).isBetween(9586L, 9586L + 64);
+        assertThat(filtro.funciones()).isEqualTo(7);
+    }
+
+    @Test
+    void avisaCuandoSuperaLaCapacidad() {
+        FiltroBloom filtro = new FiltroBloom(10, 0.01);
+        for (int i = 0; i < 10; i++) {
+            filtro.agregar(dni(i));
+        }
+        assertThat(filtro.saturado()).isFalse();
+        filtro.agregar(dni(10));
+        assertThat(filtro.saturado()).isTrue();
+        assertThat(filtro.agregados()).isEqualTo(11);
+    }
+
+    @Test
+    void noPierdeValoresAgregadosEnParalelo() throws InterruptedException {
+        // Capacidad chica: muchos hilos encienden bits de las mismas palabras
+        FiltroBloom filtro = new FiltroBloom(2000, 0.01);
+        ConcurrentLinkedQueue<String> agregados = new ConcurrentLinkedQueue<>();
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < 8; h++) {
+            int desde = h * 250;
+            hilos.add(new Thread(() -> {
+                for (int i = desde; i < desde + 250; i++) {
+                    filtro.agregar(dni(i));
+                    agregados.add(dni(i));
+                }
+            }));
+        }
+        hilos.forEach(Thread::start);
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        assertThat(agregados).hasSize(2000).allMatch(filtro::contiene);
+    }
+
+    @Test
+    void normalizaComoLaCollationDeLaBase() {
+        assertThat(FiltrosUnicidad.normalizar("  Robótica Ñandú ")).isEqualTo("robotica nandu");
+        assertThat(FiltrosUnicidad.normalizar("ANA@Mail.com")).isEqualTo("ana@mail.com");
+    }
+
+    @Test
+    void rechazaParametrosInvalidos() {
+        assertThatThrownBy(() -> new FiltroBloom(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FiltroBloom(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String dni(int i) {
+        return String.format("%08d", 40000000 + i);
+    }
+}
@@ -0,0 +1,21 @@
+-- Esquema de una base creada con ddl-auto=update antes de las migraciones (como lo generaba Hibernate):
+-- cinco tablas, restricciones con nombres generados y sin UNIQUE en teléfono, correo de club ni DNI
+
+create table rol (id_rol integer not null auto_increment, nombre_rol varchar(50) not null, descripcion varchar(200), fecha_creacion datetime(6) not null, primary key (id_rol)) engine=InnoDB;
+create table usuario (id_usuario integer not null auto_increment, correo varchar(100) not null, password varchar(255) not null, nombre varchar(100) not null, apellido varchar(100), telefono varchar(15), id_rol integer not null, activo bit not null, fecha_registro datetime(6) not null, ultimo_acceso datetime(6), primary key (id_usuario)) engine=InnoDB;
+create table categoria (id_categoria integer not null auto_increment, nombre_categoria varchar(100) not null, descripcion text, edad_minima integer, edad_maxima integer, activo bit not null, fecha_creacion datetime(6) not null, primary key (id_categoria)) engine=InnoDB;
+create table club (id_club integer not null auto_increment, nombre_club varchar(150) not null, representante varchar(150) not null, correo_representante varchar(100) not null, telefono varchar(15), direccion varchar(250), estado enum ('Activo','Inactivo','Pendiente','Rechazado') not null, fecha_registro datetime(6) not null, fecha_validacion datetime(6), id_usuario_validador integer, observaciones text, primary key (id_club)) engine=InnoDB;
+create table competidor (id_competidor integer not null auto_increment, nombre varchar(100) not null, apellido varchar(100) not null, documento_identidad varchar(8), fecha_nacimiento date, edad integer, correo varchar(100), telefono varchar(15), nombre_robot varchar(100), id_club integer not null, id_categoria integer not null, activo bit not null, fecha_inscripcion datetime(6) not null, primary key (id_competidor)) engine=InnoDB;
+alter table rol add constraint UK_2qkqbe8xj0b3ehvq5h3hv3c2d unique (nombre_rol);
+alter table usuario add constraint UK_2mlfr087gb1ce55f2j87o74t unique (correo);
+alter table categoria add constraint UKl8ya2m2wqqv7nokqf4mqs9d5e unique (nombre_categoria);
+alter table club add constraint UKq8l2m3k3twfjh0c5cj0xh5tbe unique (nombre_club);
+alter table usuario add constraint FKshkwj12wg6vkm6iuwhvcfpct8 foreign key (id_rol) references rol (id_rol);
+alter table club add constraint FK3y9u1hp7hv6rs5m5wse4hpyk4 foreign key (id_usuario_validador) references usuario (id_usuario);
+alter table competidor add constraint FKdg2xg7m0wx6sp3v4gm8wgrp8y foreign key (id_club) references club (id_club);
+alter table competidor add constraint FK7a9cq4v0dj5c1kfpxm9m4s2hn foreign key (id_categoria) references categoria (id_categoria);
+
+insert into rol (nombre_rol, descripcion, fecha_creacion) values ('ADMINISTRADOR', 'Administrador', current_timestamp);
+insert into categoria (nombre_categoria, edad_minima, edad_maxima, activo, fecha_creacion) values ('Minisumo', 10, 17, true, current_timestamp);
+insert into club (nombre_club, representante, correo_representante, estado, fecha_registro) values ('Kuntur', 'Luis', 'luis@kuntur.pe', 'Activo', current_timestamp);
+insert into competidor (nombre, apellido, documento_identidad, edad, id_club, id_categoria, activo, fecha_inscripcion) values ('Ana', 'Quispe', '45120001', 14, 1, 1, true, current_timestamp);